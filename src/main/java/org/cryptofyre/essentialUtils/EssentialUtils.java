@@ -4,9 +4,13 @@ import org.cryptofyre.essentialUtils.command.AdminCommands;
 import org.cryptofyre.essentialUtils.config.ConfigMigrator;
 import org.cryptofyre.essentialUtils.config.PluginConfig;
 import org.cryptofyre.essentialUtils.features.chunkloader.ChunkLoaderFeature;
+import org.cryptofyre.essentialUtils.features.farm.CropIndex;
 import org.cryptofyre.essentialUtils.indicator.ActionBarService;
+import org.cryptofyre.essentialUtils.indicator.BossBarIndicator;
 import org.cryptofyre.essentialUtils.indicator.TabMenuService;
 import org.cryptofyre.essentialUtils.listener.ActivationListener;
+import org.cryptofyre.essentialUtils.listener.CropIndexListener;
+import org.cryptofyre.essentialUtils.metrics.ServerMetricsSampler;
 import org.cryptofyre.essentialUtils.state.StateManager;
 import org.cryptofyre.essentialUtils.updater.UpdateChecker;
 import org.cryptofyre.essentialUtils.work.WorkService;
@@ -30,7 +34,9 @@ public final class EssentialUtils extends JavaPlugin {
     private ActionBarService actionBar;
     private ChunkLoaderFeature chunkLoader;
     private TabMenuService tabMenu;
+    private ServerMetricsSampler metrics;
     private UpdateChecker updateChecker;
+    private CropIndex cropIndex;
 
     @Override
     public void onEnable() {
@@ -49,17 +55,21 @@ public final class EssentialUtils extends JavaPlugin {
         // Initialize services
         states = new StateManager();
         actionBar = new ActionBarService(this);
-        work = new WorkService(this, cfg, states, actionBar);
+        work = new WorkService(this, states, actionBar, new BossBarIndicator());
+        cropIndex = new CropIndex();
+        metrics = new ServerMetricsSampler(this);
+        metrics.start(cfg.metricsInterval());
         
         // Initialize new features
         chunkLoader = new ChunkLoaderFeature(this, cfg);
         tabMenu = new TabMenuService(this);
 
-        // Register event listener
+        // Register event listeners
         getServer().getPluginManager().registerEvents(
-            new ActivationListener(this, cfg, states, work, actionBar, chunkLoader, tabMenu), 
+            new ActivationListener(this, cfg, states, work, actionBar, chunkLoader, tabMenu, cropIndex), 
             this
         );
+        getServer().getPluginManager().registerEvents(new CropIndexListener(cropIndex), this);
 
         // Register commands using Brigadier
         new AdminCommands(this).register();
@@ -91,6 +101,8 @@ public final class EssentialUtils extends JavaPlugin {
         if (actionBar != null) actionBar.shutdown();
         if (chunkLoader != null) chunkLoader.shutdown();
         if (tabMenu != null) tabMenu.shutdown();
+        if (metrics != null) metrics.shutdown();
+        if (cropIndex != null) cropIndex.clear();
         if (states != null) states.clear();
         getLogger().info("EssentialUtils disabled.");
     }
@@ -135,4 +147,12 @@ public final class EssentialUtils extends JavaPlugin {
     public UpdateChecker updateChecker() { 
         return updateChecker; 
     }
+    
+    public CropIndex cropIndex() { 
+        return cropIndex; 
+    }
+    
+    public ServerMetricsSampler metrics() { 
+        return metrics; 
+    }
 }
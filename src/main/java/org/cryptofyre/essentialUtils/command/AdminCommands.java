@@ -14,6 +14,8 @@ import io.papermc.paper.plugin.lifecycle.event.types.LifecycleEvents;
 import org.cryptofyre.essentialUtils.EssentialUtils;
 import org.cryptofyre.essentialUtils.config.PluginConfig;
 import org.cryptofyre.essentialUtils.features.chunkloader.ChunkLoaderFeature;
+import org.cryptofyre.essentialUtils.features.chunkloader.ClaimPolicy;
+import org.cryptofyre.essentialUtils.metrics.ServerMetricsSampler;
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.command.CommandSender;
@@ -114,7 +116,22 @@ public class AdminCommands {
                                 .executes(this::adminUnclaimChunk)))))
                 // /eutils chunks stats
                 .then(Commands.literal("stats")
-                    .executes(this::showChunkStats)))
+                    .executes(this::showChunkStats))
+                // /eutils chunks cost
+                .then(Commands.literal("cost")
+                    .executes(this::showChunkCost))
+                // /eutils chunks near [radius]
+                .then(Commands.literal("near")
+                    .requires(source -> source.getSender() instanceof Player)
+                    .executes(ctx -> showChunksNear(ctx, 8))
+                    .then(Commands.argument("radius", IntegerArgumentType.integer(1, 64))
+                        .executes(ctx -> showChunksNear(ctx, IntegerArgumentType.getInteger(ctx, "radius")))))
+                // /eutils chunks regions [world]
+                .then(Commands.literal("regions")
+                    .executes(ctx -> showChunkRegions(ctx, null))
+                    .then(Commands.argument("world", StringArgumentType.word())
+                        .suggests(this::suggestWorlds)
+                        .executes(ctx -> showChunkRegions(ctx, StringArgumentType.getString(ctx, "world"))))))
             
             // /eutils update - Check for updates
             .then(Commands.literal("update")
@@ -144,6 +161,27 @@ public class AdminCommands {
                     && source.getSender().hasPermission("essentialutils.chunkloader"))
                 .executes(this::unclaimChunk))
             
+            // /chunk harvester [remove]
+            .then(Commands.literal("harvester")
+                .requires(source -> source.getSender() instanceof Player 
+                    && source.getSender().hasPermission("essentialutils.chunkloader"))
+                .executes(this::setHarvester)
+                .then(Commands.literal("remove")
+                    .executes(this::removeHarvester)))
+            
+            // /chunk policy <always|online|grace [hours]>
+            .then(Commands.literal("policy")
+                .requires(source -> source.getSender() instanceof Player 
+                    && source.getSender().hasPermission("essentialutils.chunkloader"))
+                .then(Commands.literal("always")
+                    .executes(ctx -> setPolicy(ctx, ClaimPolicy.ALWAYS)))
+                .then(Commands.literal("online")
+                    .executes(ctx -> setPolicy(ctx, ClaimPolicy.ONLINE)))
+                .then(Commands.literal("grace")
+                    .executes(ctx -> setPolicy(ctx, ClaimPolicy.grace(plugin.chunkLoader().getDefaultGraceHours())))
+                    .then(Commands.argument("hours", IntegerArgumentType.integer(1, 720))
+                        .executes(ctx -> setPolicy(ctx, ClaimPolicy.grace(IntegerArgumentType.getInteger(ctx, "hours")))))))
+            
             // /chunk list
             .then(Commands.literal("list")
                 .requires(source -> source.getSender() instanceof Player)
@@ -205,6 +243,9 @@ public class AdminCommands {
         sender.sendMessage("§e/eutils chunks list [player] §7- List claimed chunks");
         sender.sendMessage("§e/eutils chunks unclaim <world> <x> <z> §7- Force unclaim");
         sender.sendMessage("§e/eutils chunks stats §7- View chunk statistics");
+        sender.sendMessage("§e/eutils chunks cost §7- Costliest claimed chunks");
+        sender.sendMessage("§e/eutils chunks near [radius] §7- Claims around you");
+        sender.sendMessage("§e/eutils chunks regions [world] §7- Claims per region file");
         sender.sendMessage("§e/eutils update §7- Check for updates");
         sender.sendMessage("");
         sender.sendMessage("§6Player Commands:");
@@ -226,6 +267,10 @@ public class AdminCommands {
         sender.sendMessage("  §e/chunk unclaim §7- Unclaim your current chunk");
         sender.sendMessage("  §e/chunk list §7- List your claimed chunks");
         sender.sendMessage("  §e/chunk info §7- View chunk info");
+        if (cfg.chunkLoaderHarvesterEnabled()) {
+            sender.sendMessage("  §e/chunk harvester [remove] §7- Collect crops into the container you look at");
+        }
+        sender.sendMessage("  §e/chunk policy <always|online|grace [hours]> §7- When this chunk stays loaded");
         sender.sendMessage("");
         sender.sendMessage("§7Max chunks per player: §f" + cfg.chunkLoaderMaxChunksPerPlayer());
         sender.sendMessage("§7Tip: Sneak + harvest crops to auto-claim!");
@@ -262,7 +307,14 @@ public class AdminCommands {
         sender.sendMessage("  §e🌾 Auto Farm: " + farmStatus);
         if (cfg.autoFarmEnabled()) {
             sender.sendMessage("    §7├ Radius: §f" + cfg.autoFarmRadius());
-            sender.sendMessage("    §7└ Replant: " + (cfg.autoFarmReplant() ? "§aYes" : "§cNo"));
+            sender.sendMessage("    §7├ Vertical span: §f" + cfg.autoFarmVerticalSpan());
+            sender.sendMessage("    §7├ Column crops: " + (cfg.autoFarmColumnHarvest() ? "§aYes" : "§cNo"));
+            sender.sendMessage("    §7├ Replant: " + (cfg.autoFarmReplant() ? "§aYes" : "§cNo"));
+            var cropIndex = plugin.cropIndex();
+            if (cropIndex != null) {
+                sender.sendMessage("    §7└ Crop index: §f" + cropIndex.trackedChunks() + " chunks, "
+                    + cropIndex.matureCount() + " mature §7(~" + (cropIndex.estimatedBytes() / 1024) + " KB)");
+            }
         }
         
         // Chunk Loader
@@ -272,6 +324,12 @@ public class AdminCommands {
             var chunkLoader = plugin.chunkLoader();
             sender.sendMessage("    §7├ Max chunks/player: §f" + cfg.chunkLoaderMaxChunksPerPlayer());
             sender.sendMessage("    §7├ Auto-claim on farm: " + (cfg.chunkLoaderClaimOnFarm() ? "§aYes" : "§cNo"));
+            if (chunkLoader != null) {
+                sender.sendMessage("    §7├ Storage: §f" + chunkLoader.getStorageName());
+            }
+            if (chunkLoader != null && cfg.chunkLoaderHarvesterEnabled()) {
+                sender.sendMessage("    §7├ Harvesters: §f" + chunkLoader.getHarvesters().size());
+            }
             if (chunkLoader != null) {
                 sender.sendMessage("    §7└ Total loaded: §f" + chunkLoader.getTotalLoadedChunks());
             }
@@ -282,8 +340,35 @@ public class AdminCommands {
         sender.sendMessage("  §6📋 Tab Menu: " + tabStatus);
         if (cfg.tabMenuEnabled()) {
             sender.sendMessage("    §7├ Server IP: §f" + cfg.tabMenuServerIp());
-            sender.sendMessage("    §7└ Update interval: §f" + cfg.tabMenuUpdateInterval() + " ticks");
+            sender.sendMessage("    §7├ Update interval: §f" + cfg.tabMenuUpdateInterval() + " ticks");
+            boolean slowed = plugin.tabMenu() != null && plugin.tabMenu().isSlowed();
+            sender.sendMessage("    §7└ Load mode: " + (slowed
+                ? "§eSlowed §7(every " + cfg.tabMenuAdaptiveSlowFactor() + " intervals, static)"
+                : "§aNormal"));
+        }
+        
+        // Server
+        ServerMetricsSampler.Snapshot metrics = plugin.metrics().latest();
+        sender.sendMessage("  §a📈 Server:");
+        if (Double.isNaN(metrics.tps())) {
+            sender.sendMessage("    §7├ TPS: §7n/a (per-region on Folia)");
+        } else {
+            sender.sendMessage("    §7├ TPS: §f" + String.format("%.1f", metrics.tps()));
+        }
+        ServerMetricsSampler.RegionTps worst = metrics.worstRegion();
+        if (worst != null) {
+            sender.sendMessage("    §7├ Slowest region: §f" + String.format("%.1f", worst.tps()) + " TPS §7near "
+                + worst.worldName() + " " + worst.x() + ", " + worst.z());
         }
+        if (Double.isNaN(metrics.msptAverage())) {
+            sender.sendMessage("    §7├ MSPT: §7n/a (per-region on Folia)");
+        } else {
+            sender.sendMessage("    §7├ MSPT: §f" + String.format("%.1f avg, %.1f p95, %.1f p99",
+                metrics.msptAverage(), metrics.msptP95(), metrics.msptP99()));
+        }
+        sender.sendMessage("    §7├ Heap: §f" + metrics.heapUsedMB() + "/" + metrics.heapMaxMB() + " MB");
+        sender.sendMessage("    §7└ GC: §f" + metrics.gcPauseMs() + " ms over " + metrics.gcRuns()
+            + " runs §7(last " + cfg.metricsInterval() + " ticks)");
         
         sender.sendMessage("");
         sender.sendMessage("§7Performance: §f" + cfg.blocksPerTick() + " blocks/tick");
@@ -298,6 +383,11 @@ public class AdminCommands {
         plugin.reloadConfig();
         plugin.loadPluginConfig();
         
+        // Header frames are prebuilt from the config, and the update tasks use its interval
+        if (plugin.tabMenu() != null) {
+            plugin.tabMenu().reload();
+        }
+        
         // Show loaded values for verification
         PluginConfig cfg = plugin.cfg();
         sender.sendMessage("§a[EssentialUtils] §fConfiguration reloaded!");
@@ -415,8 +505,7 @@ public class AdminCommands {
             UUID playerId = entry.getKey();
             Set<ChunkLoaderFeature.ChunkKey> chunks = entry.getValue();
             
-            OfflinePlayer offlinePlayer = Bukkit.getOfflinePlayer(playerId);
-            String playerName = offlinePlayer.getName() != null ? offlinePlayer.getName() : playerId.toString();
+            String playerName = chunkLoader.getOwnerName(playerId);
             
             sender.sendMessage("");
             sender.sendMessage("§e" + playerName + " §7(" + chunks.size() + " chunks):");
@@ -494,8 +583,7 @@ public class AdminCommands {
             return Command.SINGLE_SUCCESS;
         }
         
-        OfflinePlayer owner = Bukkit.getOfflinePlayer(ownerId);
-        String ownerName = owner.getName() != null ? owner.getName() : ownerId.toString();
+        String ownerName = chunkLoader.getOwnerName(ownerId);
         
         boolean success = chunkLoader.adminUnclaimChunk(key);
         
@@ -518,25 +606,25 @@ public class AdminCommands {
             return Command.SINGLE_SUCCESS;
         }
         
-        var allChunks = chunkLoader.getAllPlayerChunks();
+        // Live counters - nothing here walks the claims
         int totalChunks = chunkLoader.getTotalLoadedChunks();
         int maxPerPlayer = chunkLoader.getMaxChunks();
-        
-        // Calculate per-world stats
-        Map<String, Integer> worldCounts = new HashMap<>();
-        Map<UUID, Integer> playerCounts = new HashMap<>();
-        
-        for (Map.Entry<UUID, Set<ChunkLoaderFeature.ChunkKey>> entry : allChunks.entrySet()) {
-            playerCounts.put(entry.getKey(), entry.getValue().size());
-            for (var key : entry.getValue()) {
-                worldCounts.merge(key.worldName(), 1, Integer::sum);
-            }
-        }
+        Map<String, Integer> worldCounts = chunkLoader.getClaimsPerWorld();
+        var topOwners = chunkLoader.getTopOwners(5);
         
         sender.sendMessage("§6§l━━━ Chunk Loader Statistics ━━━");
         sender.sendMessage("");
         sender.sendMessage("§7Total loaded chunks: §f" + totalChunks);
-        sender.sendMessage("§7Total players with claims: §f" + allChunks.size());
+        
+        int suspended = chunkLoader.getSuspendedCount();
+        if (suspended > 0) {
+            sender.sendMessage("§7Suspended by load policy: §f" + suspended + " §7(active: §f" + (totalChunks - suspended) + "§7)");
+            sender.sendMessage("§7Random ticks saved: §fup to ~" + chunkLoader.estimateRandomTicksSaved() + "/s");
+        }
+        if (chunkLoader.getThrottledCount() > 0) {
+            sender.sendMessage("§7Unloaded by cost budget: §f" + chunkLoader.getThrottledCount());
+        }
+        sender.sendMessage("§7Total players with claims: §f" + chunkLoader.getOwnerCount());
         sender.sendMessage("§7Max chunks per player: §f" + maxPerPlayer);
         
         if (!worldCounts.isEmpty()) {
@@ -547,16 +635,140 @@ public class AdminCommands {
                 .forEach(e -> sender.sendMessage("  §7" + e.getKey() + ": §f" + e.getValue() + " chunks"));
         }
         
-        if (!playerCounts.isEmpty()) {
+        if (!topOwners.isEmpty()) {
             sender.sendMessage("");
             sender.sendMessage("§6Top Players by Chunk Count:");
-            playerCounts.entrySet().stream()
-                .sorted(Map.Entry.<UUID, Integer>comparingByValue().reversed())
-                .limit(5)
+            for (var e : topOwners) {
+                sender.sendMessage("  §7" + chunkLoader.getOwnerName(e.getKey()) + ": §f" + e.getValue() + " chunks");
+            }
+        }
+        
+        return Command.SINGLE_SUCCESS;
+    }
+    
+    private int showChunkCost(CommandContext<CommandSourceStack> context) {
+        CommandSender sender = context.getSource().getSender();
+        var chunkLoader = plugin.chunkLoader();
+        
+        if (chunkLoader == null || chunkLoader.getCostTracker() == null || !plugin.cfg().chunkLoaderEnabled()) {
+            sender.sendMessage("§c[EssentialUtils] §fChunk Loader is disabled.");
+            return Command.SINGLE_SUCCESS;
+        }
+        
+        var tracker = chunkLoader.getCostTracker();
+        var ranked = tracker.ranked();
+        double budget = plugin.cfg().chunkLoaderCostMsptBudget();
+        
+        sender.sendMessage("§6§l━━━ Chunk Loader Cost ━━━");
+        sender.sendMessage("§7Score = entities + ½ × tile entities + 3 × hoppers (rolling average)");
+        sender.sendMessage("§7MSPT budget: §f" + (budget > 0 ? String.format("%.1f", budget) : "off")
+            + " §7| Unloaded by budget: §f" + chunkLoader.getThrottledCount());
+        
+        if (ranked.isEmpty()) {
+            sender.sendMessage("");
+            sender.sendMessage("§7No claims sampled yet.");
+            return Command.SINGLE_SUCCESS;
+        }
+        
+        sender.sendMessage("");
+        sender.sendMessage("§6Costliest Claims:");
+        int i = 1;
+        for (var entry : ranked.subList(0, Math.min(10, ranked.size()))) {
+            var key = entry.getKey();
+            var cost = entry.getValue();
+            UUID owner = chunkLoader.getChunkOwner(key);
+            String ownerName = owner != null ? chunkLoader.getOwnerName(owner) : "unknown";
+            sender.sendMessage("  §7" + i + ". §f" + key.worldName() + " §7@ §f" + key.x() + ", " + key.z()
+                + " §7(" + ownerName + ") §e" + String.format("%.1f", cost.score())
+                + " §7[" + cost.entities() + "E " + cost.tileEntities() + "T " + cost.hoppers() + "H]"
+                + (chunkLoader.isThrottled(key) ? " §c(unloaded)" : ""));
+            i++;
+        }
+        
+        sender.sendMessage("");
+        sender.sendMessage("§6Costliest Owners:");
+        tracker.costByOwner().entrySet().stream()
+            .sorted(Map.Entry.<UUID, Double>comparingByValue().reversed())
+            .limit(5)
+            .forEach(e -> sender.sendMessage("  §7" + chunkLoader.getOwnerName(e.getKey()) + ": §e"
+                + String.format("%.1f", e.getValue())));
+        
+        return Command.SINGLE_SUCCESS;
+    }
+    
+    private int showChunksNear(CommandContext<CommandSourceStack> context, int radius) {
+        Player player = (Player) context.getSource().getSender();
+        var chunkLoader = plugin.chunkLoader();
+        
+        if (chunkLoader == null || !plugin.cfg().chunkLoaderEnabled()) {
+            player.sendMessage("§c[EssentialUtils] §fChunk Loader is disabled.");
+            return Command.SINGLE_SUCCESS;
+        }
+        
+        var here = new ChunkLoaderFeature.ChunkKey(player.getLocation());
+        var near = chunkLoader.getClaimsNear(here, radius);
+        
+        player.sendMessage("§6[Chunk Admin] §fClaims within " + radius + " chunks §7(" + near.size() + "):");
+        
+        if (near.isEmpty()) {
+            var nearest = chunkLoader.getNearestClaim(here, 1024);
+            if (nearest != null) {
+                player.sendMessage("  §7None. Nearest: §f" + nearest.x() + ", " + nearest.z()
+                    + " §7(" + formatChunkDistance(here, nearest) + " chunks away)");
+            } else {
+                player.sendMessage("  §7No claims in this world nearby.");
+            }
+            return Command.SINGLE_SUCCESS;
+        }
+        
+        for (var key : near.subList(0, Math.min(20, near.size()))) {
+            UUID owner = chunkLoader.getChunkOwner(key);
+            String ownerName = owner != null ? chunkLoader.getOwnerName(owner) : "unknown";
+            player.sendMessage("  §f" + key.x() + ", " + key.z() + " §7- " + ownerName
+                + " §8(" + formatChunkDistance(here, key) + ")");
+        }
+        if (near.size() > 20) {
+            player.sendMessage("  §7... and " + (near.size() - 20) + " more");
+        }
+        
+        return Command.SINGLE_SUCCESS;
+    }
+    
+    private String formatChunkDistance(ChunkLoaderFeature.ChunkKey from, ChunkLoaderFeature.ChunkKey to) {
+        return String.format("%.1f", Math.hypot(to.x() - from.x(), to.z() - from.z()));
+    }
+    
+    private int showChunkRegions(CommandContext<CommandSourceStack> context, String worldName) {
+        CommandSender sender = context.getSource().getSender();
+        var chunkLoader = plugin.chunkLoader();
+        
+        if (chunkLoader == null || !plugin.cfg().chunkLoaderEnabled()) {
+            sender.sendMessage("§c[EssentialUtils] §fChunk Loader is disabled.");
+            return Command.SINGLE_SUCCESS;
+        }
+        
+        List<String> worlds;
+        if (worldName != null) {
+            worlds = List.of(worldName);
+        } else if (sender instanceof Player player) {
+            worlds = List.of(player.getWorld().getName());
+        } else {
+            worlds = Bukkit.getWorlds().stream().map(w -> w.getName()).toList();
+        }
+        
+        sender.sendMessage("§6§l━━━ Claims per Region File ━━━");
+        for (String world : worlds) {
+            var counts = chunkLoader.getClaimsPerRegion(world);
+            if (counts.isEmpty()) continue;
+            
+            sender.sendMessage("§6" + world + " §7(" + counts.size() + " region files):");
+            counts.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed())
+                .limit(10)
                 .forEach(e -> {
-                    OfflinePlayer p = Bukkit.getOfflinePlayer(e.getKey());
-                    String name = p.getName() != null ? p.getName() : e.getKey().toString();
-                    sender.sendMessage("  §7" + name + ": §f" + e.getValue() + " chunks");
+                    long region = e.getKey();
+                    sender.sendMessage("  §7r." + (int) region + "." + (int) (region >> 32) + ".mca: §f"
+                        + e.getValue() + " chunks");
                 });
         }
         
@@ -676,6 +888,59 @@ public class AdminCommands {
         return Command.SINGLE_SUCCESS;
     }
 
+    private int setHarvester(CommandContext<CommandSourceStack> context) {
+        Player player = (Player) context.getSource().getSender();
+        var chunkLoader = plugin.chunkLoader();
+        
+        if (chunkLoader == null || !plugin.cfg().chunkLoaderEnabled()) {
+            player.sendMessage("§c[Chunk Loader] §fThis feature is disabled.");
+            return Command.SINGLE_SUCCESS;
+        }
+        
+        var result = chunkLoader.setHarvester(player, player.getTargetBlockExact(5));
+        player.sendMessage(result.getMessage().replace("&", "§"));
+        
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private int removeHarvester(CommandContext<CommandSourceStack> context) {
+        Player player = (Player) context.getSource().getSender();
+        var chunkLoader = plugin.chunkLoader();
+        
+        if (chunkLoader == null || !plugin.cfg().chunkLoaderEnabled()) {
+            player.sendMessage("§c[Chunk Loader] §fThis feature is disabled.");
+            return Command.SINGLE_SUCCESS;
+        }
+        
+        boolean success = chunkLoader.removeHarvester(player, player.getChunk());
+        
+        if (success) {
+            player.sendMessage("§e[Chunk Loader] §fHarvester removed.");
+        } else {
+            player.sendMessage("§c[Chunk Loader] §fThere's no harvester in a chunk you own here.");
+        }
+        
+        return Command.SINGLE_SUCCESS;
+    }
+
+    private int setPolicy(CommandContext<CommandSourceStack> context, ClaimPolicy policy) {
+        Player player = (Player) context.getSource().getSender();
+        var chunkLoader = plugin.chunkLoader();
+        
+        if (chunkLoader == null || !plugin.cfg().chunkLoaderEnabled()) {
+            player.sendMessage("§c[Chunk Loader] §fThis feature is disabled.");
+            return Command.SINGLE_SUCCESS;
+        }
+        
+        if (chunkLoader.setPolicy(player, player.getChunk(), policy)) {
+            player.sendMessage("§a[Chunk Loader] §fThis chunk is now " + policy.describe() + ".");
+        } else {
+            player.sendMessage("§c[Chunk Loader] §fYou don't own this chunk.");
+        }
+        
+        return Command.SINGLE_SUCCESS;
+    }
+
     private int listChunks(CommandContext<CommandSourceStack> context) {
         Player player = (Player) context.getSource().getSender();
         var chunkLoader = plugin.chunkLoader();
@@ -727,6 +992,13 @@ public class AdminCommands {
             
             if (ownedByYou) {
                 player.sendMessage("  §7Status: §aOwned by you");
+                var key = new ChunkLoaderFeature.ChunkKey(chunk);
+                player.sendMessage("  §7Policy: §f" + chunkLoader.getPolicy(key).describe()
+                    + (chunkLoader.isSuspended(key) ? " §e(suspended)" : ""));
+                var harvester = chunkLoader.getHarvester(key);
+                if (harvester != null) {
+                    player.sendMessage("  §7Harvester: §f" + harvester.x() + ", " + harvester.y() + ", " + harvester.z());
+                }
             } else if (claimed) {
                 player.sendMessage("  §7Status: §eOwned by another player");
             } else {
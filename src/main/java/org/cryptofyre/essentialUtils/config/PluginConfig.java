@@ -1,8 +1,11 @@
 package org.cryptofyre.essentialUtils.config;
 
+import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.configuration.file.FileConfiguration;
 
+import java.util.Locale;
+
 /**
  * Simplified configuration for EssentialUtils.
  * Handles module settings, actionbar customization, and performance tuning.
@@ -63,6 +66,12 @@ public class PluginConfig {
     public boolean autoFarmReplant() { 
         return c.getBoolean("modules.autoFarm.autoReplant", true); 
     }
+    public int autoFarmVerticalSpan() { 
+        return c.getInt("modules.autoFarm.verticalSpan", 0); 
+    }
+    public boolean autoFarmColumnHarvest() { 
+        return c.getBoolean("modules.autoFarm.columnHarvest", true); 
+    }
 
     // Chunk Loader
     public boolean chunkLoaderEnabled() { 
@@ -80,6 +89,48 @@ public class PluginConfig {
     public boolean chunkLoaderClaimOnFarm() { 
         return c.getBoolean("modules.chunkLoader.claimOnFarm", true); 
     }
+    public boolean chunkLoaderRequireContiguous() { 
+        return c.getBoolean("modules.chunkLoader.requireContiguous", false); 
+    }
+    public boolean chunkLoaderHarvesterEnabled() { 
+        return c.getBoolean("modules.chunkLoader.harvester.enabled", false); 
+    }
+    public int chunkLoaderHarvesterSweepInterval() { 
+        return c.getInt("modules.chunkLoader.harvester.sweepInterval", 60); 
+    }
+    public int chunkLoaderHarvesterSectionsPerTick() { 
+        return c.getInt("modules.chunkLoader.harvester.sectionsPerTick", 4); 
+    }
+    public String chunkLoaderStorageType() { 
+        return c.getString("modules.chunkLoader.storage.type", "flatfile"); 
+    }
+    public String chunkLoaderStorageSqliteFile() { 
+        return c.getString("modules.chunkLoader.storage.sqliteFile", "claims.db"); 
+    }
+    public long chunkLoaderStorageWriteDelay() { 
+        return c.getLong("modules.chunkLoader.storage.writeDelay", 500L); 
+    }
+    public int chunkLoaderStoragePollInterval() { 
+        return c.getInt("modules.chunkLoader.storage.pollInterval", 5); 
+    }
+    public String chunkLoaderPolicyDefault() { 
+        return c.getString("modules.chunkLoader.policy.default", "always"); 
+    }
+    public int chunkLoaderPolicyGraceHours() { 
+        return c.getInt("modules.chunkLoader.policy.graceHours", 24); 
+    }
+    public int chunkLoaderPolicyEvaluateInterval() { 
+        return c.getInt("modules.chunkLoader.policy.evaluateInterval", 60); 
+    }
+    public int chunkLoaderCostSampleInterval() { 
+        return c.getInt("modules.chunkLoader.cost.sampleInterval", 60); 
+    }
+    public double chunkLoaderCostMsptBudget() { 
+        return c.getDouble("modules.chunkLoader.cost.msptBudget", 0.0); 
+    }
+    public int chunkLoaderCostSuspendPerPass() { 
+        return c.getInt("modules.chunkLoader.cost.suspendPerPass", 2); 
+    }
 
     // ==================== ACTIONBAR ====================
     
@@ -93,6 +144,7 @@ public class PluginConfig {
     public boolean treeFellerShowSummary() { 
         return c.getBoolean("actionbar.treeFeller.showSummary", true); 
     }
+    /** Placeholders: {logs}, {saplings}, {apples}, {sticks} */
     public String treeFellerSummaryFormat() { 
         return colorize(c.getString("actionbar.treeFeller.summaryFormat", 
             "&a🌳 &f{logs} logs &7| &f{saplings} saplings &7| &f{apples} apples")); 
@@ -105,6 +157,7 @@ public class PluginConfig {
     public int veinMinerSummaryDuration() { 
         return c.getInt("actionbar.veinMiner.summaryDuration", 40); 
     }
+    /** Placeholders: {count}, {ore}, {drops}, {drop}, {mult}, {xp} */
     public String veinMinerSummaryFormat() { 
         return colorize(c.getString("actionbar.veinMiner.summaryFormat", 
             "&b⛏ &ex{count} {ore} &7| &f{drops} &7({mult}) &7| &a{xp} XP")); 
@@ -123,6 +176,30 @@ public class PluginConfig {
             "&e📦 Chunk unclaimed.")); 
     }
 
+    // ==================== BOSS BAR ====================
+    
+    public boolean bossBarEnabled() { 
+        return c.getBoolean("bossbar.enabled", true); 
+    }
+    public int bossBarMinBlocks() { 
+        return c.getInt("bossbar.minBlocks", 64); 
+    }
+    public int bossBarUpdateInterval() { 
+        return c.getInt("bossbar.updateInterval", 10); 
+    }
+    public BossBar.Color bossBarColor() { 
+        try {
+            return BossBar.Color.valueOf(c.getString("bossbar.color", "GREEN").toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return BossBar.Color.GREEN;
+        }
+    }
+    /** Placeholders: {done}, {total}, {percent} */
+    public String bossBarTitle() { 
+        return colorize(c.getString("bossbar.title", 
+            "&a{done}&7/&f{total} &7blocks &8(&f{percent}%&8)")); 
+    }
+
     // ==================== TAB MENU ====================
     
     public boolean tabMenuEnabled() { 
@@ -165,6 +242,9 @@ public class PluginConfig {
     public boolean tabMenuShowTps() { 
         return c.getBoolean("tabMenu.footer.showTps", true); 
     }
+    public boolean tabMenuShowWorstRegion() { 
+        return c.getBoolean("tabMenu.footer.showWorstRegion", true); 
+    }
     public boolean tabMenuShowMemory() { 
         return c.getBoolean("tabMenu.footer.showMemory", false); 
     }
@@ -177,6 +257,20 @@ public class PluginConfig {
     public boolean tabMenuCompactMode() { 
         return c.getBoolean("tabMenu.footer.compactMode", true); 
     }
+    
+    // Load adaptation
+    public boolean tabMenuAdaptiveEnabled() { 
+        return c.getBoolean("tabMenu.adaptive.enabled", true); 
+    }
+    public double tabMenuAdaptiveMsptThreshold() { 
+        return c.getDouble("tabMenu.adaptive.msptThreshold", 40.0); 
+    }
+    public int tabMenuAdaptivePlayerThreshold() { 
+        return c.getInt("tabMenu.adaptive.playerThreshold", 0); 
+    }
+    public int tabMenuAdaptiveSlowFactor() { 
+        return c.getInt("tabMenu.adaptive.slowFactor", 5); 
+    }
 
     // ==================== PERFORMANCE ====================
     
@@ -186,6 +280,9 @@ public class PluginConfig {
     public boolean requireChunkLoaded() { 
         return c.getBoolean("performance.requireChunkLoaded", true); 
     }
+    public int metricsInterval() { 
+        return c.getInt("performance.metricsInterval", 20); 
+    }
 
     // ==================== UPDATER ====================
     
@@ -0,0 +1,192 @@
+package org.cryptofyre.essentialUtils.features.chunkloader;
+
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Write-behind plumbing shared by the claim store backends.
+ *
+ * Changes are queued by the caller and written by one daemon I/O thread. After the
+ * first change of a batch arrives the thread waits writeDelayMs for more, so bursts
+ * (sneak-farming across a border, mass admin unclaims) become a single write.
+ * Between batches the thread calls idle() for housekeeping such as compaction or
+ * polling other servers' changes.
+ *
+ * A batch that fails to write is kept and retried, with backoff, ahead of anything
+ * queued since; backends apply a batch atomically or idempotently, so replaying it is
+ * safe. Only errors that retrying can't fix (see isTransient) drop the batch.
+ */
+abstract class AbstractClaimStore implements ClaimStore {
+    protected final JavaPlugin plugin;
+    private final long writeDelayMs;
+
+    // Backoff between attempts at a batch that failed to write
+    private static final long RETRY_MIN_MS = 1000L;
+    private static final long RETRY_MAX_MS = 60_000L;
+    // Time left for retries once close() is called (it waits 5s for the thread)
+    private static final long SHUTDOWN_RETRY_MS = 3000L;
+
+    private final BlockingQueue<Change> pending = new LinkedBlockingQueue<>();
+    private volatile boolean running = false;
+    private Thread ioThread;
+
+    protected Consumer<Change> remoteChanges = change -> {};
+
+    protected AbstractClaimStore(JavaPlugin plugin, long writeDelayMs) {
+        this.plugin = plugin;
+        this.writeDelayMs = Math.max(0L, writeDelayMs);
+    }
+
+    /**
+     * Persist a batch of changes, in order.
+     */
+    protected abstract void write(List<Change> batch) throws Exception;
+
+    /**
+     * Housekeeping between batches (runs at least once per idleIntervalMs()).
+     */
+    protected void idle() throws Exception {
+    }
+
+    /**
+     * Final work after the last batch on shutdown.
+     */
+    protected void shutdown() throws Exception {
+    }
+
+    protected long idleIntervalMs() {
+        return 1000L;
+    }
+
+    /**
+     * Whether a failed write may succeed if tried again (disk full, file or database
+     * locked). Anything else drops the batch.
+     */
+    protected boolean isTransient(Exception e) {
+        return e instanceof IOException;
+    }
+
+    @Override
+    public void start(Consumer<Change> remoteChanges) {
+        this.remoteChanges = remoteChanges;
+        running = true;
+        ioThread = new Thread(this::runWriter, plugin.getName() + "-ClaimStore");
+        ioThread.setDaemon(true);
+        ioThread.start();
+    }
+
+    @Override
+    public void submit(Change change) {
+        pending.add(change);
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        // Never started (load failed or still running): nothing safe to write
+        if (ioThread == null) return;
+
+        ioThread.interrupt();
+        try {
+            ioThread.join(5000L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        ioThread = null;
+    }
+
+    private void runWriter() {
+        List<Change> batch = new ArrayList<>();
+        long retryDelayMs = 0L;
+
+        while (running) {
+            try {
+                if (!batch.isEmpty()) {
+                    // The last write failed; wait before trying it again
+                    Thread.sleep(retryDelayMs);
+                } else {
+                    Change first = pending.poll(idleIntervalMs(), TimeUnit.MILLISECONDS);
+                    if (first != null) {
+                        batch.add(first);
+                        // Debounce: let the rest of the burst arrive
+                        if (writeDelayMs > 0) {
+                            Thread.sleep(writeDelayMs);
+                        }
+                    }
+                }
+            } catch (InterruptedException e) {
+                // close() - fall through and flush what's left
+                break;
+            }
+
+            pending.drainTo(batch);
+            retryDelayMs = flush(batch)
+                ? 0L
+                : Math.min(RETRY_MAX_MS, Math.max(RETRY_MIN_MS, retryDelayMs * 2));
+            safely(this::idle, "Chunk claim store housekeeping failed");
+        }
+
+        // Final flush on shutdown, retrying briefly if the store is busy
+        Thread.interrupted();
+        pending.drainTo(batch);
+        long deadline = System.currentTimeMillis() + SHUTDOWN_RETRY_MS;
+        while (!flush(batch)) {
+            if (System.currentTimeMillis() + RETRY_MIN_MS > deadline || !pause(RETRY_MIN_MS)) {
+                plugin.getLogger().severe("Gave up saving " + batch.size()
+                    + " chunk claim change(s) on shutdown - they are lost");
+                break;
+            }
+        }
+        safely(this::shutdown, "Failed to close chunk claim store");
+    }
+
+    /**
+     * Write the batch. Returns false if it failed and was kept for another attempt.
+     */
+    private boolean flush(List<Change> batch) {
+        if (batch.isEmpty()) return true;
+        try {
+            write(batch);
+        } catch (Exception e) {
+            if (isTransient(e)) {
+                plugin.getLogger().log(Level.WARNING,
+                    "Failed to save " + batch.size() + " chunk claim change(s), will retry", e);
+                return false;
+            }
+            plugin.getLogger().log(Level.SEVERE,
+                "Failed to save " + batch.size() + " chunk claim change(s) - they are lost", e);
+        }
+        batch.clear();
+        return true;
+    }
+
+    private static boolean pause(long ms) {
+        try {
+            Thread.sleep(ms);
+            return true;
+        } catch (InterruptedException e) {
+            return false;
+        }
+    }
+
+    private void safely(Task task, String message) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.WARNING, message, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        void run() throws Exception;
+    }
+}
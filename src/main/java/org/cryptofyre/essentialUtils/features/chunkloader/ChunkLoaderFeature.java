@@ -4,19 +4,29 @@ import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
 import org.cryptofyre.essentialUtils.EssentialUtils;
 import org.cryptofyre.essentialUtils.config.PluginConfig;
 import org.bukkit.Chunk;
+import org.bukkit.GameRule;
 import org.bukkit.Location;
 import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.Container;
 import org.bukkit.entity.Player;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 
 /**
  * Chunk Loader Feature - Keeps player-claimed farm chunks loaded.
  * Folia-compatible using plugin chunk tickets.
  * 
  * Players can claim chunks by crouching + breaking a crop, or via command.
- * Chunks stay loaded even when players are offline (configurable).
+ * Chunks stay loaded even when players are offline, unless the claim's load policy
+ * (see ClaimPolicy) says otherwise - suspended claims drop their ticket until the owner is back.
+ * Claims can optionally get a harvester container that mature crops are collected into.
  */
 public class ChunkLoaderFeature {
     private final EssentialUtils plugin;
@@ -25,21 +35,81 @@ public class ChunkLoaderFeature {
     // Tracks claimed chunks per player (UUID -> Set of ChunkKey)
     private final Map<UUID, Set<ChunkKey>> playerChunks = new ConcurrentHashMap<>();
     
-    // All currently loaded chunks (for quick lookup)
-    private final Set<ChunkKey> loadedChunks = ConcurrentHashMap.newKeySet();
+    // Reverse index: claimed chunk -> owner (kept in sync with playerChunks)
+    private final ClaimIndex chunkOwners = new ClaimIndex();
     
-    // Scheduled task for periodic chunk validation
-    private ScheduledTask validationTask;
+    // Harvester container per claimed chunk (opt-in, see ClaimHarvester)
+    private final Map<ChunkKey, Harvester> harvesters = new ConcurrentHashMap<>();
+    
+    // Coalesced, batched plugin chunk ticket changes
+    private final ChunkTicketManager tickets;
+    
+    // Incremental, region-dispatched check that claimed chunks stay loaded
+    private ClaimValidator validator;
+    
+    // Incremental sweep over claims with a harvester
+    private ClaimHarvester claimHarvester;
+    
+    // Persistent claim storage, written in the background
+    private final ClaimStore store;
+    
+    // Load policy per claim, only for claims that don't use the default
+    private final Map<ChunkKey, ClaimPolicy> policies = new ConcurrentHashMap<>();
+    private final ClaimPolicy defaultPolicy;
+    
+    // Owner -> last join/quit (epoch ms), for GRACE policies
+    private final Map<UUID, Long> lastSeen = new ConcurrentHashMap<>();
+    
+    // Claims whose ticket is dropped right now (policy or cost); also the lock for ticket decisions
+    private final Set<ChunkKey> suspended = ConcurrentHashMap.newKeySet();
+    
+    // Claims dropped by the cost budget (see ClaimCostTracker), a subset of suspended
+    private final Set<ChunkKey> throttled = ConcurrentHashMap.newKeySet();
+    
+    // Rolling per-claim cost sampling and budget enforcement
+    private ClaimCostTracker costTracker;
+    
+    // Owner names for stats and listings, looked up in the background
+    private final OwnerNames ownerNames;
+    
+    // Import conflicts logged one by one before summarising the rest
+    private static final int MAX_LOGGED_CONFLICTS = 20;
+    
+    // Periodic policy evaluation (async)
+    private ScheduledTask policyTask;
+    
+    // Why claiming is refused until the stored claims are merged in; null once they are
+    private volatile ClaimResult loadGate = ClaimResult.LOADING;
     
     public ChunkLoaderFeature(EssentialUtils plugin, PluginConfig cfg) {
         this.plugin = plugin;
         this.cfg = cfg;
+        this.store = createStore();
+        this.defaultPolicy = parseDefaultPolicy();
+        this.ownerNames = new OwnerNames(plugin);
+        this.tickets = new ChunkTicketManager(plugin);
+        tickets.start();
         
-        // Load saved chunk claims from config
+        // Load saved chunk claims
         loadChunkClaims();
         
         // Start validation loop
         startValidationLoop();
+        
+        // Start load policy checks
+        startPolicyLoop();
+        
+        // Start cost sampling
+        if (cfg.chunkLoaderEnabled()) {
+            costTracker = new ClaimCostTracker(plugin, cfg, this);
+            costTracker.start();
+        }
+        
+        // Start harvester sweeps
+        if (cfg.chunkLoaderEnabled() && cfg.chunkLoaderHarvesterEnabled()) {
+            claimHarvester = new ClaimHarvester(plugin, cfg, this);
+            claimHarvester.start();
+        }
     }
     
     /**
@@ -51,21 +121,22 @@ public class ChunkLoaderFeature {
             return ClaimResult.FEATURE_DISABLED;
         }
         
+        // Owner and limit checks would miss claims that are only on disk so far
+        ClaimResult gate = loadGate;
+        if (gate != null) {
+            return gate;
+        }
+        
         UUID playerId = player.getUniqueId();
-        ChunkKey key = new ChunkKey(chunk);
         
-        // Check if already claimed by this player
-        Set<ChunkKey> owned = playerChunks.computeIfAbsent(playerId, k -> ConcurrentHashMap.newKeySet());
-        if (owned.contains(key)) {
-            return ClaimResult.ALREADY_CLAIMED;
+        // Check if already claimed (no allocation - this runs on every sneak-harvest)
+        UUID currentOwner = chunkOwners.owner(chunk);
+        if (currentOwner != null) {
+            return currentOwner.equals(playerId) ? ClaimResult.ALREADY_CLAIMED : ClaimResult.CLAIMED_BY_OTHER;
         }
         
-        // Check if claimed by another player
-        for (Map.Entry<UUID, Set<ChunkKey>> entry : playerChunks.entrySet()) {
-            if (!entry.getKey().equals(playerId) && entry.getValue().contains(key)) {
-                return ClaimResult.CLAIMED_BY_OTHER;
-            }
-        }
+        ChunkKey key = new ChunkKey(chunk);
+        Set<ChunkKey> owned = playerChunks.computeIfAbsent(playerId, k -> ConcurrentHashMap.newKeySet());
         
         // Check player's chunk limit
         int maxChunks = cfg.chunkLoaderMaxChunksPerPlayer();
@@ -73,15 +144,25 @@ public class ChunkLoaderFeature {
             return ClaimResult.AT_LIMIT;
         }
         
-        // Claim the chunk
+        // Contiguous claims: after the first claim in a world, each new one must touch an existing one
+        if (cfg.chunkLoaderRequireContiguous()
+                && owned.stream().anyMatch(k -> k.worldName().equals(key.worldName()))
+                && !chunkOwners.hasNeighbour(key, playerId)) {
+            return ClaimResult.NOT_CONTIGUOUS;
+        }
+        
+        // Claim the chunk - the owner index decides if two claims race for it
+        UUID previous = chunkOwners.putIfAbsent(key, playerId);
+        if (previous != null) {
+            return previous.equals(playerId) ? ClaimResult.ALREADY_CLAIMED : ClaimResult.CLAIMED_BY_OTHER;
+        }
         owned.add(key);
-        loadedChunks.add(key);
         
         // Add chunk ticket to keep it loaded
         addChunkTicket(key);
         
-        // Save to config
-        saveChunkClaims();
+        // Persist in the background
+        store.claim(playerId, key);
         
         return ClaimResult.SUCCESS;
     }
@@ -93,23 +174,19 @@ public class ChunkLoaderFeature {
         UUID playerId = player.getUniqueId();
         ChunkKey key = new ChunkKey(chunk);
         
-        Set<ChunkKey> owned = playerChunks.get(playerId);
-        if (owned == null || !owned.contains(key)) {
+        if (!chunkOwners.remove(key, playerId)) {
             return false;
         }
         
         // Remove from tracking
-        owned.remove(key);
-        if (owned.isEmpty()) {
-            playerChunks.remove(playerId);
-        }
-        loadedChunks.remove(key);
+        removeFromPlayer(playerId, key);
+        harvesters.remove(key);
         
         // Remove chunk ticket
-        removeChunkTicket(key);
+        releaseClaim(key);
         
-        // Save to config
-        saveChunkClaims();
+        // Persist in the background
+        store.unclaim(playerId, key);
         
         return true;
     }
@@ -118,16 +195,14 @@ public class ChunkLoaderFeature {
      * Check if a chunk is claimed by a player.
      */
     public boolean isClaimedBy(Player player, Chunk chunk) {
-        Set<ChunkKey> owned = playerChunks.get(player.getUniqueId());
-        return owned != null && owned.contains(new ChunkKey(chunk));
+        return player.getUniqueId().equals(chunkOwners.owner(chunk));
     }
     
     /**
      * Check if a chunk is claimed by anyone.
      */
     public boolean isClaimed(Chunk chunk) {
-        ChunkKey key = new ChunkKey(chunk);
-        return loadedChunks.contains(key);
+        return chunkOwners.owner(chunk) != null;
     }
     
     /**
@@ -157,7 +232,39 @@ public class ChunkLoaderFeature {
      * Get total number of loaded chunks.
      */
     public int getTotalLoadedChunks() {
-        return loadedChunks.size();
+        return chunkOwners.size();
+    }
+    
+    /**
+     * Get the number of players with at least one claim.
+     */
+    public int getOwnerCount() {
+        return chunkOwners.stats().owners();
+    }
+    
+    /**
+     * Get the claim count per world. Kept up to date on claim/unclaim, so this doesn't walk the claims.
+     */
+    public Map<String, Integer> getClaimsPerWorld() {
+        return chunkOwners.stats().perWorld();
+    }
+    
+    /**
+     * Get the k owners with the most claims (owner -> count), most first.
+     */
+    public List<Map.Entry<UUID, Integer>> getTopOwners(int k) {
+        List<Map.Entry<UUID, Integer>> top = new ArrayList<>();
+        for (ClaimStats.Rank rank : chunkOwners.stats().top(k)) {
+            top.add(Map.entry(rank.owner(), rank.count()));
+        }
+        return top;
+    }
+    
+    /**
+     * Get an owner's name without blocking (a short UUID until it has been looked up).
+     */
+    public String getOwnerName(UUID owner) {
+        return ownerNames.get(owner);
     }
     
     /**
@@ -168,16 +275,33 @@ public class ChunkLoaderFeature {
         return Collections.unmodifiableMap(playerChunks);
     }
     
+    /**
+     * Get claims within radius chunks (square) of a chunk, nearest first.
+     */
+    public List<ChunkKey> getClaimsNear(ChunkKey center, int radius) {
+        return chunkOwners.within(center.worldName(), center.x(), center.z(), radius);
+    }
+    
+    /**
+     * Get the claim closest to a chunk within maxRadius chunks, or null.
+     */
+    public ChunkKey getNearestClaim(ChunkKey center, int maxRadius) {
+        List<ChunkKey> nearest = chunkOwners.nearest(center.worldName(), center.x(), center.z(), 1, maxRadius);
+        return nearest.isEmpty() ? null : nearest.get(0);
+    }
+    
+    /**
+     * Get the claim count per region file of a world (keys packed like Chunk.getChunkKey(regionX, regionZ)).
+     */
+    public Map<Long, Integer> getClaimsPerRegion(String worldName) {
+        return chunkOwners.regionCounts(worldName);
+    }
+    
     /**
      * Get the owner UUID of a chunk, if any.
      */
     public UUID getChunkOwner(ChunkKey key) {
-        for (Map.Entry<UUID, Set<ChunkKey>> entry : playerChunks.entrySet()) {
-            if (entry.getValue().contains(key)) {
-                return entry.getKey();
-            }
-        }
-        return null;
+        return chunkOwners.owner(key);
     }
     
     /**
@@ -185,61 +309,337 @@ public class ChunkLoaderFeature {
      * Returns true if the chunk was claimed and is now unclaimed.
      */
     public boolean adminUnclaimChunk(ChunkKey key) {
-        UUID owner = getChunkOwner(key);
+        UUID owner = chunkOwners.remove(key);
         if (owner == null) {
             return false; // Not claimed by anyone
         }
         
-        Set<ChunkKey> owned = playerChunks.get(owner);
-        if (owned != null) {
-            owned.remove(key);
-            if (owned.isEmpty()) {
-                playerChunks.remove(owner);
-            }
-        }
-        loadedChunks.remove(key);
+        removeFromPlayer(owner, key);
+        harvesters.remove(key);
         
         // Remove chunk ticket
-        removeChunkTicket(key);
+        releaseClaim(key);
+        
+        // Persist in the background
+        store.unclaim(owner, key);
         
-        // Save to config
-        saveChunkClaims();
+        return true;
+    }
+    
+    /**
+     * Set the harvester container for the claim it stands in.
+     * The container must be inside a chunk the player owns, so sweeps never cross regions.
+     */
+    public HarvesterResult setHarvester(Player player, Block block) {
+        if (!cfg.chunkLoaderEnabled()) {
+            return HarvesterResult.FEATURE_DISABLED;
+        }
+        if (!cfg.chunkLoaderHarvesterEnabled()) {
+            return HarvesterResult.HARVESTER_DISABLED;
+        }
+        if (block == null || !(block.getState(false) instanceof Container)) {
+            return HarvesterResult.NOT_A_CONTAINER;
+        }
+        if (!isClaimedBy(player, block.getChunk())) {
+            return HarvesterResult.NOT_OWNED;
+        }
+        
+        ChunkKey key = new ChunkKey(block.getChunk());
+        Harvester harvester = new Harvester(key, block.getX(), block.getY(), block.getZ());
+        harvesters.put(key, harvester);
+        store.setHarvester(harvester);
+        
+        return HarvesterResult.SUCCESS;
+    }
+    
+    /**
+     * Remove the harvester from a chunk the player owns.
+     */
+    public boolean removeHarvester(Player player, Chunk chunk) {
+        if (!isClaimedBy(player, chunk)) {
+            return false;
+        }
+        ChunkKey key = new ChunkKey(chunk);
+        if (harvesters.remove(key) == null) {
+            return false;
+        }
+        store.removeHarvester(key);
+        return true;
+    }
+    
+    /**
+     * Get the harvester for a chunk, if any.
+     */
+    public Harvester getHarvester(ChunkKey key) {
+        return harvesters.get(key);
+    }
+    
+    /**
+     * Get all harvesters (read-only view).
+     */
+    public Map<ChunkKey, Harvester> getHarvesters() {
+        return Collections.unmodifiableMap(harvesters);
+    }
+    
+    // ==================== LOAD POLICIES ====================
+    
+    /**
+     * Set the load policy of a chunk the player owns. Returns false if they don't own it.
+     */
+    public boolean setPolicy(Player player, Chunk chunk, ClaimPolicy policy) {
+        if (!isClaimedBy(player, chunk)) {
+            return false;
+        }
+        ChunkKey key = new ChunkKey(chunk);
         
+        // Claims on the default policy aren't stored, so changing the default moves them too
+        if (policy.equals(defaultPolicy)) {
+            policies.remove(key);
+            store.setPolicy(key, null);
+        } else {
+            policies.put(key, policy);
+            store.setPolicy(key, policy);
+        }
+        evaluate(key, System.currentTimeMillis());
         return true;
     }
     
+    /**
+     * Get the effective load policy of a claim.
+     */
+    public ClaimPolicy getPolicy(ChunkKey key) {
+        return policies.getOrDefault(key, defaultPolicy);
+    }
+    
+    /**
+     * Grace period used by "grace" without an explicit number of hours.
+     */
+    public int getDefaultGraceHours() {
+        return cfg.chunkLoaderPolicyGraceHours();
+    }
+    
+    /**
+     * Check if a claim's ticket is currently dropped by its load policy.
+     */
+    public boolean isSuspended(ChunkKey key) {
+        return suspended.contains(key);
+    }
+    
+    /**
+     * Number of claims currently suspended, by load policy or cost budget.
+     */
+    public int getSuspendedCount() {
+        return suspended.size();
+    }
+    
+    /**
+     * Number of claims currently dropped by the cost budget.
+     */
+    public int getThrottledCount() {
+        return throttled.size();
+    }
+    
+    public boolean isThrottled(ChunkKey key) {
+        return throttled.contains(key);
+    }
+    
+    /**
+     * Get the cost tracker, or null if the feature is disabled.
+     */
+    public ClaimCostTracker getCostTracker() {
+        return costTracker;
+    }
+    
+    /**
+     * Rough random ticks per second that suspended claims no longer cost.
+     * Every section of a ticking chunk gets randomTickSpeed random ticks per game tick;
+     * this counts all sections, so it's an upper bound (empty sections are skipped by the
+     * server, and a suspended chunk near a player still ticks).
+     */
+    public long estimateRandomTicksSaved() {
+        long total = 0;
+        for (ChunkKey key : suspended) {
+            World world = plugin.getServer().getWorld(key.worldName());
+            if (world == null) continue;
+            
+            Integer speed = world.getGameRuleValue(GameRule.RANDOM_TICK_SPEED);
+            int sections = (world.getMaxHeight() - world.getMinHeight()) >> 4;
+            total += (long) sections * (speed != null ? speed : 3) * 20;
+        }
+        return total;
+    }
+    
+    /**
+     * Record an owner joining or leaving, and re-check their claims.
+     */
+    public void updatePresence(UUID playerId, boolean joined) {
+        Player player = plugin.getServer().getPlayer(playerId);
+        if (joined && player != null) {
+            ownerNames.update(playerId, player.getName());
+        }
+        
+        // Only claim owners matter; anyone else can't have a GRACE claim yet
+        if (!playerChunks.containsKey(playerId)) return;
+        
+        long now = System.currentTimeMillis();
+        lastSeen.put(playerId, now);
+        store.lastSeen(playerId, now);
+        
+        if (joined) {
+            evaluateOwner(playerId, now);
+        } else {
+            // The quitting player still counts as online until the event is over
+            plugin.getServer().getAsyncScheduler().runDelayed(plugin,
+                task -> evaluateOwner(playerId, System.currentTimeMillis()), 1L, TimeUnit.SECONDS);
+        }
+    }
+    
+    private void evaluateOwner(UUID owner, long now) {
+        Set<ChunkKey> owned = playerChunks.get(owner);
+        if (owned == null) return;
+        for (ChunkKey key : owned) {
+            evaluate(key, now);
+        }
+    }
+    
+    private void evaluateAll(long now) {
+        for (ChunkKey key : chunkOwners.keys()) {
+            evaluate(key, now);
+        }
+    }
+    
+    /**
+     * Drop or restore a claim's ticket to match its policy and the cost budget.
+     * Only transitions touch the ticket.
+     */
+    private void evaluate(ChunkKey key, long now) {
+        synchronized (suspended) {
+            // Re-read under the lock so an unclaim can't be undone by a late restore
+            UUID owner = chunkOwners.owner(key);
+            if (owner == null) {
+                suspended.remove(key);
+                throttled.remove(key);
+                return;
+            }
+            
+            boolean online = plugin.getServer().getPlayer(owner) != null;
+            // Owners not seen yet this session stay loaded until the policy loop looks them up
+            long seen = lastSeen.getOrDefault(owner, now);
+            
+            if (!throttled.contains(key) && getPolicy(key).wantsLoaded(online, seen, now)) {
+                if (suspended.remove(key)) {
+                    addChunkTicket(key);
+                }
+            } else if (suspended.add(key)) {
+                removeChunkTicket(key);
+            }
+        }
+    }
+    
+    /**
+     * Drop the ticket and policy state of a chunk that was just unclaimed.
+     */
+    private void releaseClaim(ChunkKey key) {
+        policies.remove(key);
+        synchronized (suspended) {
+            suspended.remove(key);
+            throttled.remove(key);
+            removeChunkTicket(key);
+        }
+    }
+    
+    /**
+     * Periodically re-check every claim's policy off the main thread.
+     * Ticket changes go through the ticket manager, which applies them in batches.
+     */
+    private void startPolicyLoop() {
+        if (!cfg.chunkLoaderEnabled()) return;
+        
+        long interval = Math.max(5, cfg.chunkLoaderPolicyEvaluateInterval());
+        policyTask = plugin.getServer().getAsyncScheduler().runAtFixedRate(plugin, task -> {
+            seedLastSeen();
+            evaluateAll(System.currentTimeMillis());
+        }, interval, interval, TimeUnit.SECONDS);
+    }
+    
+    /**
+     * Fill in last-seen times for owners with no recorded join/quit, from the server's
+     * player data. Can touch disk, so only called from the async policy loop.
+     */
+    private void seedLastSeen() {
+        for (UUID owner : playerChunks.keySet()) {
+            if (!lastSeen.containsKey(owner)) {
+                long seen = plugin.getServer().getOfflinePlayer(owner).getLastSeen();
+                lastSeen.putIfAbsent(owner, seen > 0 ? seen : System.currentTimeMillis());
+            }
+        }
+    }
+    
+    private ClaimPolicy parseDefaultPolicy() {
+        ClaimPolicy policy = ClaimPolicy.fromString(cfg.chunkLoaderPolicyDefault(), cfg.chunkLoaderPolicyGraceHours());
+        if (policy == null) {
+            plugin.getLogger().warning("Unknown chunk loader policy '" + cfg.chunkLoaderPolicyDefault() + "' - using always.");
+            return ClaimPolicy.ALWAYS;
+        }
+        return policy;
+    }
+    
+    // ==================== COST BUDGET ====================
+    
+    /**
+     * Snapshot of every claimed chunk.
+     */
+    List<ChunkKey> claimSnapshot() {
+        return chunkOwners.keys();
+    }
+    
+    /**
+     * Drop a claim's ticket to stay within the cost budget.
+     */
+    void throttle(ChunkKey key) {
+        if (throttled.add(key)) {
+            evaluate(key, System.currentTimeMillis());
+        }
+    }
+    
+    /**
+     * Give a throttled claim its ticket back (if its policy still wants it).
+     */
+    void unthrottle(ChunkKey key) {
+        if (throttled.remove(key)) {
+            evaluate(key, System.currentTimeMillis());
+        }
+    }
+    
+    List<ChunkKey> throttledClaims() {
+        return new ArrayList<>(throttled);
+    }
+    
+    // ==================== TICKETS ====================
+    
     /**
      * Add a plugin chunk ticket to keep the chunk loaded.
-     * Folia-compatible - uses region scheduler for chunk operations.
+     * Queued in the ticket manager, which coalesces and batches the actual calls.
      */
     private void addChunkTicket(ChunkKey key) {
-        World world = plugin.getServer().getWorld(key.worldName());
-        if (world == null) return;
-        
-        // Use global region scheduler for chunk ticket operations
-        plugin.getServer().getGlobalRegionScheduler().execute(plugin, () -> {
-            world.addPluginChunkTicket(key.x(), key.z(), plugin);
-        });
+        tickets.add(key);
     }
     
     /**
      * Remove a plugin chunk ticket.
      */
     private void removeChunkTicket(ChunkKey key) {
-        World world = plugin.getServer().getWorld(key.worldName());
-        if (world == null) return;
-        
-        plugin.getServer().getGlobalRegionScheduler().execute(plugin, () -> {
-            world.removePluginChunkTicket(key.x(), key.z(), plugin);
-        });
+        tickets.remove(key);
     }
     
     /**
-     * Re-apply all chunk tickets (used on startup and validation).
+     * Re-apply all chunk tickets (used on startup and validation). Suspended claims are skipped.
      */
     public void reapplyAllTickets() {
-        for (ChunkKey key : loadedChunks) {
-            addChunkTicket(key);
+        for (ChunkKey key : chunkOwners.keys()) {
+            if (!suspended.contains(key)) {
+                addChunkTicket(key);
+            }
         }
     }
     
@@ -249,108 +649,315 @@ public class ChunkLoaderFeature {
     private void startValidationLoop() {
         if (!cfg.chunkLoaderEnabled()) return;
         
-        int intervalTicks = cfg.chunkLoaderValidationInterval() * 20; // Convert seconds to ticks
-        
-        validationTask = plugin.getServer().getGlobalRegionScheduler().runAtFixedRate(
-            plugin,
-            task -> validateChunks(),
-            intervalTicks,
-            intervalTicks
-        );
+        validator = new ClaimValidator(plugin, cfg.chunkLoaderValidationInterval(),
+            chunkOwners::keys, key -> chunkOwners.contains(key) && !suspended.contains(key), tickets::restore);
+        validator.start();
     }
     
     /**
-     * Validate all chunks are still loaded.
+     * Create the configured claim store backend.
      */
-    private void validateChunks() {
-        for (ChunkKey key : loadedChunks) {
-            World world = plugin.getServer().getWorld(key.worldName());
-            if (world == null) continue;
-            
-            // Re-add ticket if chunk isn't loaded
-            if (!world.isChunkLoaded(key.x(), key.z())) {
-                world.addPluginChunkTicket(key.x(), key.z(), plugin);
+    private ClaimStore createStore() {
+        long writeDelay = cfg.chunkLoaderStorageWriteDelay();
+        
+        if ("sqlite".equalsIgnoreCase(cfg.chunkLoaderStorageType())) {
+            try {
+                // Driver ships with the server
+                Class.forName("org.sqlite.JDBC");
+                Path file = plugin.getDataFolder().toPath().resolve(cfg.chunkLoaderStorageSqliteFile());
+                return new SqliteClaimStore(plugin, file, writeDelay, cfg.chunkLoaderStoragePollInterval() * 1000L);
+            } catch (ClassNotFoundException e) {
+                plugin.getLogger().warning("SQLite driver not found - using flat-file chunk claim storage.");
             }
         }
+        return new FlatFileClaimStore(plugin, writeDelay);
+    }
+    
+    /**
+     * Get the active claim store backend name.
+     */
+    public String getStorageName() {
+        return store.name();
     }
     
     /**
-     * Load chunk claims from config file.
+     * Load chunk claims from the claim store (off-thread) and start its writer.
      */
     private void loadChunkClaims() {
-        var config = plugin.getConfig();
-        var section = config.getConfigurationSection("chunkloader.claims");
-        
-        if (section == null) return;
+        // Switched to SQLite with claims still in the flat files: read those too, to copy them over
+        FlatFileClaimStore leftover = store instanceof SqliteClaimStore && FlatFileClaimStore.hasData(plugin)
+            ? new FlatFileClaimStore(plugin, 0L) : null;
+        CompletableFuture<ClaimStore.Snapshot> leftoverClaims = leftover == null
+            ? CompletableFuture.completedFuture(null)
+            : leftover.load().exceptionally(error -> {
+                plugin.getLogger().log(Level.SEVERE, "Failed to read claims.dat/claims.log - the flat-file claims "
+                    + "were NOT copied into " + store.name() + " and won't load this session", error);
+                return null;
+            });
         
-        for (String uuidStr : section.getKeys(false)) {
-            try {
-                UUID playerId = UUID.fromString(uuidStr);
-                List<String> chunkStrings = section.getStringList(uuidStr);
-                
-                Set<ChunkKey> chunks = ConcurrentHashMap.newKeySet();
-                for (String chunkStr : chunkStrings) {
-                    ChunkKey key = ChunkKey.fromString(chunkStr);
-                    if (key != null) {
-                        chunks.add(key);
-                        loadedChunks.add(key);
+        store.load().thenCombine(leftoverClaims, Loaded::new)
+            .whenComplete((loaded, error) ->
+                plugin.getServer().getGlobalRegionScheduler().execute(plugin, () -> {
+                    if (error != null) {
+                        // Writer stays off so a partial read can't overwrite the stored claims
+                        plugin.getLogger().log(Level.SEVERE,
+                            "Failed to load chunk claims (" + store.name() + ") - claiming is disabled this session", error);
+                        loadGate = ClaimResult.STORE_UNAVAILABLE;
+                        return;
                     }
+                    applySnapshot(loaded.stored(), loaded.leftover() != null ? leftover : null, loaded.leftover());
+                }));
+    }
+    
+    private record Loaded(ClaimStore.Snapshot stored, ClaimStore.Snapshot leftover) {
+    }
+    
+    /**
+     * Merge loaded claims into memory, then anything still waiting in an older place
+     * (leftover is the flat-file store after a switch to SQLite, or null). Runs on the
+     * global region thread.
+     */
+    private void applySnapshot(ClaimStore.Snapshot snapshot, FlatFileClaimStore leftover,
+                               ClaimStore.Snapshot leftoverClaims) {
+        // One bulk insert: each world's table is sized and published once
+        Map<ChunkKey, UUID> owners = snapshot.owners();
+        for (ChunkKey key : chunkOwners.putAll(owners)) {
+            playerChunks.computeIfAbsent(owners.get(key), k -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+        
+        // Harvesters only count for chunks that are still claimed
+        for (Harvester harvester : snapshot.harvesters()) {
+            if (chunkOwners.contains(harvester.claim())) {
+                harvesters.putIfAbsent(harvester.claim(), harvester);
+            }
+        }
+        
+        for (Map.Entry<ChunkKey, ClaimPolicy> entry : snapshot.policies().entrySet()) {
+            if (chunkOwners.contains(entry.getKey())) {
+                policies.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+        }
+        for (Map.Entry<UUID, Long> entry : snapshot.lastSeen().entrySet()) {
+            lastSeen.merge(entry.getKey(), entry.getValue(), Math::max);
+        }
+        
+        // Claims from before the store existed, on this server. Checked on every start: with a
+        // shared database another server may have created the store first. Both sources are
+        // removed once imported, so a repeat finds nothing.
+        importLegacyClaims();
+        if (leftover != null) {
+            importFlatFileClaims(leftover, leftoverClaims);
+        }
+        
+        store.start(change -> plugin.getServer().getGlobalRegionScheduler().execute(plugin, () -> applyRemoteChange(change)));
+        loadGate = null;
+        
+        // Decide which claims are suspended before any ticket goes out
+        evaluateAll(System.currentTimeMillis());
+        reapplyAllTickets();
+        ownerNames.warm(playerChunks.keySet());
+        plugin.getLogger().info("Loaded " + chunkOwners.size() + " chunk claims (" + store.name() + ").");
+    }
+    
+    /**
+     * Apply a claim change made by another server sharing the claim store.
+     */
+    private void applyRemoteChange(ClaimStore.Change change) {
+        ChunkKey key = change.key();
+        
+        switch (change.type()) {
+            case CLAIM -> {
+                UUID previous = chunkOwners.put(key, change.owner());
+                if (previous != null && !previous.equals(change.owner())) {
+                    removeFromPlayer(previous, key);
+                    harvesters.remove(key);
+                }
+                playerChunks.computeIfAbsent(change.owner(), k -> ConcurrentHashMap.newKeySet()).add(key);
+                if (previous == null) {
+                    addChunkTicket(key);
+                }
+                evaluate(key, System.currentTimeMillis());
+            }
+            case UNCLAIM -> {
+                if (chunkOwners.remove(key, change.owner())) {
+                    removeFromPlayer(change.owner(), key);
+                    harvesters.remove(key);
+                    releaseClaim(key);
                 }
-                
-                if (!chunks.isEmpty()) {
-                    playerChunks.put(playerId, chunks);
+            }
+            case HARVESTER -> {
+                if (chunkOwners.contains(key)) {
+                    harvesters.put(key, change.harvester());
+                }
+            }
+            case REMOVE_HARVESTER -> harvesters.remove(key);
+            case POLICY -> {
+                if (!chunkOwners.contains(key)) return;
+                if (change.policy() == null) {
+                    policies.remove(key);
+                } else {
+                    policies.put(key, change.policy());
                 }
-            } catch (IllegalArgumentException e) {
-                plugin.getLogger().warning("Invalid UUID in chunk claims: " + uuidStr);
+                evaluate(key, System.currentTimeMillis());
+            }
+            case LAST_SEEN -> {
+                lastSeen.merge(change.owner(), change.time(), Math::max);
+                evaluateOwner(change.owner(), System.currentTimeMillis());
+            }
+        }
+    }
+    
+    private void removeFromPlayer(UUID playerId, ChunkKey key) {
+        Set<ChunkKey> owned = playerChunks.get(playerId);
+        if (owned != null) {
+            owned.remove(key);
+            if (owned.isEmpty()) {
+                playerChunks.remove(playerId);
             }
         }
-        
-        // Apply tickets for all loaded chunks
-        plugin.getServer().getGlobalRegionScheduler().runDelayed(plugin, task -> {
-            reapplyAllTickets();
-            plugin.getLogger().info("Loaded " + loadedChunks.size() + " chunk claims from config.");
-        }, 20L); // Delay to ensure worlds are loaded
     }
     
     /**
-     * Save chunk claims to config file.
+     * Move claims saved by older versions (chunkloader.claims in config.yml) into the claim store.
      */
-    private void saveChunkClaims() {
+    private void importLegacyClaims() {
         var config = plugin.getConfig();
+        var section = config.getConfigurationSection("chunkloader.claims");
+        List<String> legacyHarvesters = config.getStringList("chunkloader.harvesters");
         
-        // Clear existing claims
-        config.set("chunkloader.claims", null);
+        if (section == null && legacyHarvesters.isEmpty()) return;
+        
+        Map<ChunkKey, UUID> legacy = new LinkedHashMap<>();
+        if (section != null) {
+            for (String uuidStr : section.getKeys(false)) {
+                try {
+                    UUID playerId = UUID.fromString(uuidStr);
+                    for (String chunkStr : section.getStringList(uuidStr)) {
+                        ChunkKey key = ChunkKey.fromString(chunkStr);
+                        // First owner wins if a hand-edited config lists a chunk twice
+                        if (key != null) {
+                            legacy.putIfAbsent(key, playerId);
+                        }
+                    }
+                } catch (IllegalArgumentException e) {
+                    plugin.getLogger().warning("Invalid UUID in chunk claims: " + uuidStr);
+                }
+            }
+        }
+        int imported = importClaims(legacy, "config.yml");
         
-        // Save each player's chunks
-        for (Map.Entry<UUID, Set<ChunkKey>> entry : playerChunks.entrySet()) {
-            List<String> chunkStrings = new ArrayList<>();
-            for (ChunkKey key : entry.getValue()) {
-                chunkStrings.add(key.toString());
+        for (String entry : legacyHarvesters) {
+            Harvester harvester = Harvester.fromString(entry);
+            if (harvester != null && importedOwner(legacy, harvester.claim())
+                    && harvesters.putIfAbsent(harvester.claim(), harvester) == null) {
+                store.setHarvester(harvester);
             }
-            config.set("chunkloader.claims." + entry.getKey().toString(), chunkStrings);
         }
         
+        // Claims are in the store now - drop them from config.yml
+        config.set("chunkloader", null);
         plugin.saveConfig();
+        plugin.getLogger().info("Imported " + imported + " chunk claims from config.yml.");
     }
     
     /**
-     * Shutdown the feature.
+     * Copy flat-file claims into the SQLite store, then rename the files so it happens once.
      */
-    public void shutdown() {
-        if (validationTask != null) {
-            validationTask.cancel();
+    private void importFlatFileClaims(FlatFileClaimStore leftover, ClaimStore.Snapshot old) {
+        Map<ChunkKey, UUID> owners = old.owners();
+        int imported = importClaims(owners, "claims.dat");
+        
+        for (Harvester harvester : old.harvesters()) {
+            if (importedOwner(owners, harvester.claim())
+                    && harvesters.putIfAbsent(harvester.claim(), harvester) == null) {
+                store.setHarvester(harvester);
+            }
+        }
+        for (Map.Entry<ChunkKey, ClaimPolicy> entry : old.policies().entrySet()) {
+            if (importedOwner(owners, entry.getKey())
+                    && policies.putIfAbsent(entry.getKey(), entry.getValue()) == null) {
+                store.setPolicy(entry.getKey(), entry.getValue());
+            }
+        }
+        for (Map.Entry<UUID, Long> entry : old.lastSeen().entrySet()) {
+            lastSeen.merge(entry.getKey(), entry.getValue(), Math::max);
+            store.lastSeen(entry.getKey(), entry.getValue());
         }
         
-        // Remove all chunk tickets
-        for (ChunkKey key : loadedChunks) {
-            World world = plugin.getServer().getWorld(key.worldName());
-            if (world != null) {
-                world.removePluginChunkTicket(key.x(), key.z(), plugin);
+        try {
+            leftover.retire();
+            plugin.getLogger().info("Copied " + imported + " chunk claims from claims.dat into " + store.name()
+                + "; the old files were renamed to *.migrated.");
+        } catch (IOException e) {
+            // The copy is queued either way; a repeat next start only re-finds claims already there
+            plugin.getLogger().log(Level.WARNING, "Copied " + imported + " chunk claims from claims.dat into "
+                + store.name() + " but couldn't rename the old files", e);
+        }
+    }
+    
+    /**
+     * Add claims from an older source and queue them for the store. Returns how many were added.
+     *
+     * A chunk the store already gives to someone else stays theirs: the store may be shared,
+     * and that claim may have been made (or imported) on another server since. Each such
+     * conflict is logged so an admin can sort it out.
+     */
+    private int importClaims(Map<ChunkKey, UUID> claims, String source) {
+        List<ChunkKey> added = chunkOwners.putAll(claims);
+        for (ChunkKey key : added) {
+            UUID playerId = claims.get(key);
+            playerChunks.computeIfAbsent(playerId, k -> ConcurrentHashMap.newKeySet()).add(key);
+            store.claim(playerId, key);
+        }
+        
+        int conflicts = 0;
+        for (Map.Entry<ChunkKey, UUID> entry : claims.entrySet()) {
+            UUID owner = chunkOwners.owner(entry.getKey());
+            if (entry.getValue().equals(owner)) continue;
+            if (++conflicts <= MAX_LOGGED_CONFLICTS) {
+                plugin.getLogger().warning("Chunk " + entry.getKey() + " in " + source + " belongs to "
+                    + entry.getValue() + ", but the claim store already gives it to " + owner + " - keeping " + owner);
             }
         }
+        if (conflicts > MAX_LOGGED_CONFLICTS) {
+            plugin.getLogger().warning("... and " + (conflicts - MAX_LOGGED_CONFLICTS) + " more chunk(s) in "
+                + source + " already owned by someone else in the claim store.");
+        }
+        return added.size();
+    }
+    
+    /**
+     * True if an imported chunk ended up with the owner its source gave it (not a conflict).
+     * Chunks the source doesn't list only need to be claimed.
+     */
+    private boolean importedOwner(Map<ChunkKey, UUID> source, ChunkKey key) {
+        UUID owner = chunkOwners.owner(key);
+        UUID expected = source.get(key);
+        return owner != null && (expected == null || expected.equals(owner));
+    }
+    
+    /**
+     * Shutdown the feature.
+     */
+    public void shutdown() {
+        if (validator != null) {
+            validator.shutdown();
+        }
+        if (claimHarvester != null) {
+            claimHarvester.shutdown();
+        }
+        if (policyTask != null) {
+            policyTask.cancel();
+        }
+        if (costTracker != null) {
+            costTracker.shutdown();
+        }
+        
+        // Remove all chunk tickets (one call per world)
+        tickets.shutdown();
         
-        // Save any pending changes
-        saveChunkClaims();
+        // Flush pending writes and compact
+        store.close();
     }
     
     // ==================== RESULT ENUM ====================
@@ -360,7 +967,10 @@ public class ChunkLoaderFeature {
         ALREADY_CLAIMED("&eYou already own this chunk."),
         CLAIMED_BY_OTHER("&cThis chunk is owned by another player."),
         AT_LIMIT("&cYou've reached your chunk limit!"),
-        FEATURE_DISABLED("&cChunk loader is disabled.");
+        NOT_CONTIGUOUS("&cNew claims must be next to one of your claimed chunks."),
+        FEATURE_DISABLED("&cChunk loader is disabled."),
+        LOADING("&eChunk claims are still loading, try again in a moment."),
+        STORE_UNAVAILABLE("&cChunk claims couldn't be loaded; claiming is unavailable until a restart.");
         
         private final String message;
         
@@ -377,6 +987,28 @@ public class ChunkLoaderFeature {
         }
     }
     
+    public enum HarvesterResult {
+        SUCCESS("&aHarvester set! Mature crops in this chunk will be collected into it."),
+        NOT_A_CONTAINER("&cLook at a chest, barrel or other container."),
+        NOT_OWNED("&cThe container must be inside a chunk you own."),
+        HARVESTER_DISABLED("&cChunk harvesters are disabled."),
+        FEATURE_DISABLED("&cChunk loader is disabled.");
+        
+        private final String message;
+        
+        HarvesterResult(String message) {
+            this.message = message;
+        }
+        
+        public String getMessage() {
+            return message;
+        }
+        
+        public boolean isSuccess() {
+            return this == SUCCESS;
+        }
+    }
+    
     // ==================== CHUNK KEY RECORD ====================
     
     /**
@@ -407,5 +1039,28 @@ public class ChunkLoaderFeature {
             }
         }
     }
+    
+    // ==================== HARVESTER RECORD ====================
+    
+    /**
+     * Harvester container for a claimed chunk (block coordinates inside that chunk).
+     */
+    public record Harvester(ChunkKey claim, int x, int y, int z) {
+        
+        @Override
+        public String toString() {
+            return claim + ":" + x + ":" + y + ":" + z;
+        }
+        
+        public static Harvester fromString(String str) {
+            String[] parts = str.split(":");
+            if (parts.length != 6) return null;
+            try {
+                ChunkKey claim = new ChunkKey(parts[0], Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+                return new Harvester(claim, Integer.parseInt(parts[3]), Integer.parseInt(parts[4]), Integer.parseInt(parts[5]));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
 }
-
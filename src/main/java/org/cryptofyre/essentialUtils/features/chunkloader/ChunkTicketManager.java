@@ -0,0 +1,190 @@
+package org.cryptofyre.essentialUtils.features.chunkloader;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.cryptofyre.essentialUtils.EssentialUtils;
+import org.cryptofyre.essentialUtils.util.Folia;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalesces plugin chunk ticket changes and applies them in capped batches.
+ *
+ * Callers record the state they want (ticket / no ticket). Repeated requests for the
+ * same chunk collapse into one, and a request that puts a chunk back to the state
+ * already applied (add then remove before the flush) cancels out. A flush on the
+ * global region scheduler applies at most MAX_PER_TICK changes per tick, grouped
+ * per world. On Folia the changes are further grouped into 32x32 chunk areas, and
+ * each area's changes run as one task on its region thread.
+ */
+public class ChunkTicketManager {
+    private static final int MAX_PER_TICK = 256;
+
+    // Chunk coordinate shift for the per-task areas on Folia (32x32 chunks)
+    private static final int AREA_SHIFT = 5;
+
+    private final EssentialUtils plugin;
+
+    // Desired state not yet applied: true = ticket, false = no ticket
+    private final Map<ChunkLoaderFeature.ChunkKey, Boolean> pending = new ConcurrentHashMap<>();
+
+    // Chunks whose ticket has been added (or dispatched to be added)
+    private final Set<ChunkLoaderFeature.ChunkKey> applied = ConcurrentHashMap.newKeySet();
+
+    private ScheduledTask flushTask;
+
+    public ChunkTicketManager(EssentialUtils plugin) {
+        this.plugin = plugin;
+    }
+
+    public void start() {
+        flushTask = plugin.getServer().getGlobalRegionScheduler().runAtFixedRate(
+            plugin,
+            task -> flush(),
+            1L,
+            1L
+        );
+    }
+
+    /**
+     * Request a ticket for a chunk.
+     */
+    public void add(ChunkLoaderFeature.ChunkKey key) {
+        request(key, true);
+    }
+
+    /**
+     * Request a chunk's ticket be removed.
+     */
+    public void remove(ChunkLoaderFeature.ChunkKey key) {
+        request(key, false);
+    }
+
+    /**
+     * Re-add a ticket this manager applied but the chunk has lost (the validator found
+     * it unloaded). A change already pending for the chunk wins, so a queued removal
+     * isn't undone; a chunk without an applied ticket is left alone.
+     */
+    public synchronized void restore(ChunkLoaderFeature.ChunkKey key) {
+        if (pending.containsKey(key) || !applied.remove(key)) return;
+        // Mark it unapplied so the next flush adds it again like any new ticket
+        pending.put(key, true);
+    }
+
+    private synchronized void request(ChunkLoaderFeature.ChunkKey key, boolean wanted) {
+        if (applied.contains(key) == wanted) {
+            // Back to what's already applied - drop any opposite intent
+            pending.remove(key);
+        } else {
+            pending.put(key, wanted);
+        }
+    }
+
+    /**
+     * Number of changes waiting to be applied.
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Apply up to MAX_PER_TICK pending changes, batched per world.
+     */
+    private void flush() {
+        if (pending.isEmpty()) return;
+
+        Map<String, List<Map.Entry<ChunkLoaderFeature.ChunkKey, Boolean>>> byWorld = new HashMap<>();
+        int taken = 0;
+
+        // Same lock as request(), so an intent can't slip between pending and applied
+        synchronized (this) {
+            Iterator<Map.Entry<ChunkLoaderFeature.ChunkKey, Boolean>> it = pending.entrySet().iterator();
+            while (it.hasNext() && taken < MAX_PER_TICK) {
+                Map.Entry<ChunkLoaderFeature.ChunkKey, Boolean> entry = it.next();
+                ChunkLoaderFeature.ChunkKey key = entry.getKey();
+                boolean wanted = entry.getValue();
+                it.remove();
+
+                // Record the new state now, so later requests compare against what will be applied
+                boolean changed = wanted ? applied.add(key) : applied.remove(key);
+                if (!changed) continue;
+
+                byWorld.computeIfAbsent(key.worldName(), k -> new ArrayList<>()).add(Map.entry(key, wanted));
+                taken++;
+            }
+        }
+
+        for (Map.Entry<String, List<Map.Entry<ChunkLoaderFeature.ChunkKey, Boolean>>> batch : byWorld.entrySet()) {
+            World world = plugin.getServer().getWorld(batch.getKey());
+            if (world == null) continue;
+
+            if (!Folia.isFolia()) {
+                // Global region scheduler is the main thread on Paper
+                for (Map.Entry<ChunkLoaderFeature.ChunkKey, Boolean> change : batch.getValue()) {
+                    apply(world, change.getKey(), change.getValue());
+                }
+                continue;
+            }
+
+            // One region task per area rather than per chunk
+            Map<Long, List<Map.Entry<ChunkLoaderFeature.ChunkKey, Boolean>>> byArea = new HashMap<>();
+            for (Map.Entry<ChunkLoaderFeature.ChunkKey, Boolean> change : batch.getValue()) {
+                ChunkLoaderFeature.ChunkKey key = change.getKey();
+                long area = ((long) (key.x() >> AREA_SHIFT) << 32) | ((key.z() >> AREA_SHIFT) & 0xFFFFFFFFL);
+                byArea.computeIfAbsent(area, k -> new ArrayList<>()).add(change);
+            }
+            for (List<Map.Entry<ChunkLoaderFeature.ChunkKey, Boolean>> changes : byArea.values()) {
+                ChunkLoaderFeature.ChunkKey first = changes.get(0).getKey();
+                plugin.getServer().getRegionScheduler().execute(plugin, world, first.x(), first.z(),
+                    () -> applyArea(world, changes));
+            }
+        }
+    }
+
+    /**
+     * Apply an area's changes on the region thread that owns its first chunk. An area
+     * can straddle a region border; chunks owned elsewhere get their own task.
+     */
+    private void applyArea(World world, List<Map.Entry<ChunkLoaderFeature.ChunkKey, Boolean>> changes) {
+        for (Map.Entry<ChunkLoaderFeature.ChunkKey, Boolean> change : changes) {
+            ChunkLoaderFeature.ChunkKey key = change.getKey();
+            boolean wanted = change.getValue();
+
+            if (plugin.getServer().isOwnedByCurrentRegion(world, key.x(), key.z())) {
+                apply(world, key, wanted);
+            } else {
+                plugin.getServer().getRegionScheduler().execute(plugin, world, key.x(), key.z(),
+                    () -> apply(world, key, wanted));
+            }
+        }
+    }
+
+    private void apply(World world, ChunkLoaderFeature.ChunkKey key, boolean wanted) {
+        if (wanted) {
+            world.addPluginChunkTicket(key.x(), key.z(), plugin);
+        } else {
+            world.removePluginChunkTicket(key.x(), key.z(), plugin);
+        }
+    }
+
+    /**
+     * Stop flushing and drop every ticket this plugin holds, one call per world.
+     */
+    public void shutdown() {
+        if (flushTask != null) {
+            flushTask.cancel();
+        }
+        pending.clear();
+        applied.clear();
+
+        for (World world : plugin.getServer().getWorlds()) {
+            world.removePluginChunkTickets(plugin);
+        }
+    }
+}
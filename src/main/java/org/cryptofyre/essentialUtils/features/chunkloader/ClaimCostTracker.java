@@ -0,0 +1,222 @@
+package org.cryptofyre.essentialUtils.features.chunkloader;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.cryptofyre.essentialUtils.EssentialUtils;
+import org.cryptofyre.essentialUtils.config.PluginConfig;
+import org.cryptofyre.essentialUtils.metrics.ServerMetricsSampler;
+import org.cryptofyre.essentialUtils.util.Folia;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Hopper;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rolling cost estimate per claimed chunk, and budget enforcement.
+ *
+ * Each pass samples every loaded claim on its own region thread, spread over the
+ * sample interval like ClaimValidator: entities, tile entities and hoppers are
+ * counted and folded into an exponentially weighted score. The server doesn't
+ * expose per-chunk tick time, so the score is a weighted count, not milliseconds.
+ *
+ * At the end of a pass, if MSPT is over the configured budget, the costliest active
+ * claims are throttled (ticket dropped); once MSPT is comfortably back under budget
+ * they're restored, cheapest first. Both happen a few claims per pass.
+ *
+ * Folia has no server-wide MSPT, so there the budget is checked against the slowest
+ * region players are in. A region behind schedule takes about 1000 / TPS ms per tick;
+ * one keeping up counts as under budget.
+ */
+public class ClaimCostTracker {
+    private static final int MAX_PER_TICK = 64;
+
+    // Score weights: hoppers tick constantly, and are counted as tile entities too
+    private static final double ENTITY_WEIGHT = 1.0;
+    private static final double TILE_WEIGHT = 0.5;
+    private static final double HOPPER_WEIGHT = 3.0;
+
+    // Weight of the newest sample in the rolling score
+    private static final double ALPHA = 0.3;
+
+    // Restore throttled claims only once MSPT drops below this share of the budget
+    private static final double RELEASE_FRACTION = 0.8;
+
+    private final EssentialUtils plugin;
+    private final PluginConfig cfg;
+    private final ChunkLoaderFeature chunkLoader;
+
+    private final Map<ChunkLoaderFeature.ChunkKey, Cost> costs = new ConcurrentHashMap<>();
+
+    // Global region thread only
+    private ChunkLoaderFeature.ChunkKey[] pass = new ChunkLoaderFeature.ChunkKey[0];
+    private int cursor = 0;
+    private int perTick = 1;
+    private long ticksUntilNextPass = 0;
+
+    private ScheduledTask task;
+
+    public ClaimCostTracker(EssentialUtils plugin, PluginConfig cfg, ChunkLoaderFeature chunkLoader) {
+        this.plugin = plugin;
+        this.cfg = cfg;
+        this.chunkLoader = chunkLoader;
+    }
+
+    public void start() {
+        double budget = cfg.chunkLoaderCostMsptBudget();
+        if (Folia.isFolia() && budget > 0) {
+            plugin.getLogger().warning(String.format("Folia has no server-wide MSPT: the chunk loader cost budget is "
+                + "checked against the slowest region players are in, which only reads as over budget below %.1f TPS "
+                + "(about %.0f ms/tick).", ServerMetricsSampler.FULL_SPEED_TPS, 1000 / ServerMetricsSampler.FULL_SPEED_TPS));
+        }
+
+        ticksUntilNextPass = intervalTicks();
+        task = plugin.getServer().getGlobalRegionScheduler().runAtFixedRate(
+            plugin,
+            t -> tick(),
+            1L,
+            1L
+        );
+    }
+
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+        }
+    }
+
+    /**
+     * Latest cost of a claim, or null if it hasn't been sampled while loaded.
+     */
+    public Cost getCost(ChunkLoaderFeature.ChunkKey key) {
+        return costs.get(key);
+    }
+
+    /**
+     * Every sampled claim, costliest first.
+     */
+    public List<Map.Entry<ChunkLoaderFeature.ChunkKey, Cost>> ranked() {
+        return costs.entrySet().stream()
+            .sorted(Map.Entry.<ChunkLoaderFeature.ChunkKey, Cost>comparingByValue(
+                Comparator.comparingDouble(Cost::score)).reversed())
+            .toList();
+    }
+
+    /**
+     * Summed score per owner.
+     */
+    public Map<UUID, Double> costByOwner() {
+        Map<UUID, Double> totals = new HashMap<>();
+        for (Map.Entry<ChunkLoaderFeature.ChunkKey, Cost> entry : costs.entrySet()) {
+            UUID owner = chunkLoader.getChunkOwner(entry.getKey());
+            if (owner != null) {
+                totals.merge(owner, entry.getValue().score(), Double::sum);
+            }
+        }
+        return totals;
+    }
+
+    private int intervalTicks() {
+        return Math.max(20, cfg.chunkLoaderCostSampleInterval() * 20);
+    }
+
+    private void tick() {
+        if (--ticksUntilNextPass <= 0 && cursor >= pass.length) {
+            if (pass.length > 0) {
+                enforce();
+            }
+            startPass();
+        }
+
+        int end = Math.min(pass.length, cursor + perTick);
+        for (; cursor < end; cursor++) {
+            sample(pass[cursor]);
+            pass[cursor] = null;
+        }
+    }
+
+    private void startPass() {
+        // Forget claims that have been unclaimed since the last pass
+        costs.keySet().removeIf(key -> chunkLoader.getChunkOwner(key) == null);
+
+        pass = chunkLoader.claimSnapshot().toArray(new ChunkLoaderFeature.ChunkKey[0]);
+        cursor = 0;
+        int intervalTicks = intervalTicks();
+        ticksUntilNextPass = intervalTicks;
+
+        int spreadTicks = Math.max(1, intervalTicks - 20);
+        perTick = Math.min(MAX_PER_TICK, Math.max(1, (pass.length + spreadTicks - 1) / spreadTicks));
+    }
+
+    /**
+     * Count one claim on the region thread that owns it. Unloaded claims keep their last score.
+     */
+    private void sample(ChunkLoaderFeature.ChunkKey key) {
+        World world = plugin.getServer().getWorld(key.worldName());
+        if (world == null) return;
+
+        plugin.getServer().getRegionScheduler().execute(plugin, world, key.x(), key.z(), () -> {
+            if (!world.isChunkLoaded(key.x(), key.z())) return;
+
+            Chunk chunk = world.getChunkAt(key.x(), key.z());
+            int entities = chunk.getEntities().length;
+            int tiles = 0;
+            int hoppers = 0;
+            for (BlockState state : chunk.getTileEntities(false)) {
+                tiles++;
+                if (state instanceof Hopper) hoppers++;
+            }
+
+            double sampled = entities * ENTITY_WEIGHT + tiles * TILE_WEIGHT + hoppers * HOPPER_WEIGHT;
+            costs.compute(key, (k, previous) -> new Cost(
+                previous == null ? sampled : previous.score() + ALPHA * (sampled - previous.score()),
+                entities, tiles, hoppers, System.currentTimeMillis()));
+        });
+    }
+
+    /**
+     * Throttle or restore a few claims depending on MSPT. Runs on the global region thread.
+     */
+    private void enforce() {
+        double budget = cfg.chunkLoaderCostMsptBudget();
+        int perPass = Math.max(1, cfg.chunkLoaderCostSuspendPerPass());
+
+        if (budget <= 0) {
+            // Budget switched off - give everything back
+            chunkLoader.throttledClaims().forEach(chunkLoader::unthrottle);
+            return;
+        }
+
+        double mspt = plugin.metrics().latest().loadMspt();
+        if (Double.isNaN(mspt)) {
+            // Nothing measured yet (Folia with nobody online) - leave things as they are
+            return;
+        }
+
+        if (mspt > budget) {
+            ranked().stream()
+                .filter(e -> e.getValue().score() > 0 && !chunkLoader.isSuspended(e.getKey()))
+                .limit(perPass)
+                .forEach(e -> chunkLoader.throttle(e.getKey()));
+        } else if (mspt < budget * RELEASE_FRACTION) {
+            chunkLoader.throttledClaims().stream()
+                .sorted(Comparator.comparingDouble(key -> {
+                    Cost cost = costs.get(key);
+                    return cost != null ? cost.score() : 0;
+                }))
+                .limit(perPass)
+                .forEach(chunkLoader::unthrottle);
+        }
+    }
+
+    /**
+     * Rolling score plus the counts from the latest sample.
+     */
+    public record Cost(double score, int entities, int tileEntities, int hoppers, long sampledAt) {
+    }
+}
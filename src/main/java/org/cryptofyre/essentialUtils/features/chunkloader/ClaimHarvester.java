@@ -0,0 +1,217 @@
+package org.cryptofyre.essentialUtils.features.chunkloader;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.cryptofyre.essentialUtils.EssentialUtils;
+import org.cryptofyre.essentialUtils.config.PluginConfig;
+import org.cryptofyre.essentialUtils.features.farm.AutoFarmFeature;
+import org.cryptofyre.essentialUtils.features.farm.CropIndex;
+import org.cryptofyre.essentialUtils.util.HarvestUtil;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.Container;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Auto-harvester for claimed farm chunks.
+ *
+ * Claims with a designated container are swept periodically: mature crops are
+ * harvested in place (reset to age 0) and the drops go into the container.
+ * Sweeps are time-sliced - each tick at most one slice of a few chunk sections
+ * runs per region, so hundreds of harvesters cost a fixed amount per tick.
+ */
+public class ClaimHarvester {
+    // Upper bound on slices dispatched per tick across all regions
+    private static final int MAX_SLICES_PER_TICK = 16;
+
+    private final EssentialUtils plugin;
+    private final PluginConfig cfg;
+    private final ChunkLoaderFeature chunkLoader;
+
+    // Sweeps waiting for (or in the middle of) their pass - global region thread only
+    private final Deque<Sweep> due = new ArrayDeque<>();
+    private final Set<ChunkLoaderFeature.ChunkKey> queued = new HashSet<>();
+
+    private ScheduledTask tickTask;
+    private long tick = 0;
+
+    public ClaimHarvester(EssentialUtils plugin, PluginConfig cfg, ChunkLoaderFeature chunkLoader) {
+        this.plugin = plugin;
+        this.cfg = cfg;
+        this.chunkLoader = chunkLoader;
+    }
+
+    /**
+     * Start the sweep scheduler.
+     */
+    public void start() {
+        tickTask = plugin.getServer().getGlobalRegionScheduler().runAtFixedRate(
+            plugin,
+            task -> tick(),
+            20L,
+            1L
+        );
+    }
+
+    /**
+     * Stop the sweep scheduler.
+     */
+    public void shutdown() {
+        if (tickTask != null) {
+            tickTask.cancel();
+        }
+        due.clear();
+        queued.clear();
+    }
+
+    /**
+     * One scheduler tick: start a new pass when due, then hand out slices.
+     */
+    private void tick() {
+        tick++;
+
+        long intervalTicks = Math.max(20L, cfg.chunkLoaderHarvesterSweepInterval() * 20L);
+        if (tick % intervalTicks == 1) {
+            for (ChunkLoaderFeature.Harvester h : chunkLoader.getHarvesters().values()) {
+                if (queued.add(h.claim())) {
+                    due.add(new Sweep(h));
+                }
+            }
+        }
+
+        if (due.isEmpty()) return;
+
+        // One slice per region (approximated by region file) per tick
+        Set<Long> regionsThisTick = new HashSet<>();
+        int dispatched = 0;
+
+        Iterator<Sweep> it = due.iterator();
+        while (it.hasNext() && dispatched < MAX_SLICES_PER_TICK) {
+            Sweep sweep = it.next();
+
+            if (sweep.finished) {
+                it.remove();
+                queued.remove(sweep.target.claim());
+                continue;
+            }
+            if (sweep.running) continue;
+
+            ChunkLoaderFeature.ChunkKey key = sweep.target.claim();
+            long region = ((long) (key.x() >> 5) << 32) | ((key.z() >> 5) & 0xFFFFFFFFL);
+            if (!regionsThisTick.add(region)) continue;
+
+            World world = plugin.getServer().getWorld(key.worldName());
+            if (world == null) {
+                sweep.finished = true;
+                continue;
+            }
+
+            sweep.running = true;
+            plugin.getServer().getRegionScheduler().execute(plugin, world, key.x(), key.z(), () -> {
+                try {
+                    sweep.finished = runSlice(world, sweep);
+                } finally {
+                    sweep.running = false;
+                }
+            });
+            dispatched++;
+        }
+    }
+
+    /**
+     * Harvest the next few sections of a claim. Runs on the chunk's region thread.
+     * Returns true when the pass over this chunk is complete.
+     */
+    private boolean runSlice(World world, Sweep sweep) {
+        ChunkLoaderFeature.ChunkKey key = sweep.target.claim();
+        CropIndex index = plugin.cropIndex();
+        if (index == null || !world.isChunkLoaded(key.x(), key.z())) return true;
+
+        // Container must still exist (it's inside the claim, so this region owns it)
+        Block containerBlock = world.getBlockAt(sweep.target.x(), sweep.target.y(), sweep.target.z());
+        if (!(containerBlock.getState(false) instanceof Container container)) return true;
+        Inventory inv = container.getInventory();
+
+        int minSection = world.getMinHeight() >> 4;
+        int maxSection = (world.getMaxHeight() >> 4) - 1;
+        int from = Math.max(sweep.nextSection, minSection);
+        int to = Math.min(maxSection, from + Math.max(1, cfg.chunkLoaderHarvesterSectionsPerTick()) - 1);
+
+        boolean[] full = {false};
+        Location overflow = containerBlock.getLocation().add(0.5, 1.0, 0.5);
+
+        index.forEachMature(world,
+            key.x() << 4, from << 4, key.z() << 4,
+            (key.x() << 4) + 15, (to << 4) + 15, (key.z() << 4) + 15,
+            b -> {
+                if (full[0]) return;
+                if (inv.firstEmpty() == -1) {
+                    full[0] = true;
+                    return;
+                }
+                Collection<ItemStack> drops = harvest(b, index);
+                if (drops == null || drops.isEmpty()) return;
+
+                // Partial stacks can still overflow - spill those on top of the container
+                for (ItemStack leftover : inv.addItem(drops.toArray(new ItemStack[0])).values()) {
+                    world.dropItemNaturally(overflow, leftover);
+                }
+            });
+
+        // Container full: stop this pass, crops wait for the next one
+        if (full[0]) return true;
+
+        sweep.nextSection = to + 1;
+        return to >= maxSection;
+    }
+
+    /**
+     * Harvest one mature crop in place and return its drops (null if nothing was harvested).
+     */
+    private Collection<ItemStack> harvest(Block b, CropIndex index) {
+        Material type = b.getType();
+        if (!AutoFarmFeature.isCrop(type) || !AutoFarmFeature.isMature(b)) return null;
+
+        if (AutoFarmFeature.canReplant(type)) {
+            List<ItemStack> drops = HarvestUtil.harvestAndReset(b, AutoFarmFeature.getSeed(type));
+            if (drops != null) {
+                index.markHarvested(b);
+            }
+            return drops;
+        }
+
+        // Melons and pumpkins are the fruit itself - the stem regrows them
+        if (type == Material.MELON || type == Material.PUMPKIN) {
+            Collection<ItemStack> drops = b.getDrops();
+            b.setType(Material.AIR, false);
+            index.clear(b);
+            return drops;
+        }
+
+        return null;
+    }
+
+    /**
+     * Progress of one harvest pass over a claim.
+     */
+    private static final class Sweep {
+        private final ChunkLoaderFeature.Harvester target;
+        private volatile int nextSection = Integer.MIN_VALUE;
+        private volatile boolean running = false;
+        private volatile boolean finished = false;
+
+        Sweep(ChunkLoaderFeature.Harvester target) {
+            this.target = target;
+        }
+    }
+}
@@ -0,0 +1,510 @@
+package org.cryptofyre.essentialUtils.features.chunkloader;
+
+import org.bukkit.Chunk;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Claimed chunk -> owner index, stored per world in primitive long-keyed tables.
+ *
+ * World names are resolved once to a small int id (and Worlds to that id, by
+ * identity); chunk coordinates are packed into a long the same way as
+ * Chunk.getChunkKey(). Lookups from region threads probe the world's table without
+ * locking or allocating. Writes are serialised and change the table in place; the
+ * slot array is only copied when it has to grow. Loading a snapshot goes through
+ * putAll(), which sizes each table once and publishes it once.
+ *
+ * Claims are also bucketed per region file (32x32 chunks), so area queries -
+ * claims near a point, the nearest claim, claims per region file - only visit the
+ * buckets that overlap the area instead of every claim.
+ *
+ * Every write also updates the claim counters in ClaimStats.
+ *
+ * ChunkKey is still used at the edges - persistence and commands.
+ */
+final class ClaimIndex {
+    private final Map<String, Integer> worldIds = new ConcurrentHashMap<>();
+    private volatile String[] worldNames = new String[0];
+    private volatile Table[] tables = new Table[0];
+    
+    // Worlds seen by owner(Chunk), with their id; scanned by identity (there are only a few)
+    private volatile WorldId[] worldRefs = new WorldId[0];
+    
+    private record WorldId(World world, int id) {
+    }
+    
+    // World name -> region key -> packed chunks claimed in that region file (arrays are never mutated)
+    private final Map<String, Map<Long, long[]>> regions = new ConcurrentHashMap<>();
+    
+    private final ClaimStats stats = new ClaimStats();
+
+    // ==================== READS ====================
+
+    /**
+     * Owner of a chunk, or null. Allocation-free.
+     */
+    UUID owner(Chunk chunk) {
+        return owner(worldId(chunk.getWorld()), chunk.getChunkKey());
+    }
+
+    UUID owner(ChunkLoaderFeature.ChunkKey key) {
+        return owner(existingWorldId(key.worldName()), Chunk.getChunkKey(key.x(), key.z()));
+    }
+
+    /**
+     * Owner of a packed chunk in a world by id, or null. id -1 means the world has no claims.
+     */
+    UUID owner(int worldId, long packed) {
+        if (worldId < 0) return null;
+        Table[] current = tables;
+        return worldId < current.length ? current[worldId].get(packed) : null;
+    }
+
+    /**
+     * Id of a world, or -1 if nothing was ever claimed in it. Resolved by name
+     * once per World object, then found by identity.
+     */
+    int worldId(World world) {
+        for (WorldId ref : worldRefs) {
+            if (ref.world() == world) return ref.id();
+        }
+
+        int id = existingWorldId(world.getName());
+        if (id >= 0) {
+            synchronized (this) {
+                WorldId[] refs = worldRefs;
+                // Unloaded and reloaded worlds leave stale entries behind; start over now and then
+                WorldId[] grown = refs.length >= 16 ? new WorldId[1] : Arrays.copyOf(refs, refs.length + 1);
+                grown[grown.length - 1] = new WorldId(world, id);
+                worldRefs = grown;
+            }
+        }
+        return id;
+    }
+
+    private int existingWorldId(String worldName) {
+        Integer id = worldIds.get(worldName);
+        return id != null ? id : -1;
+    }
+
+    ClaimStats stats() {
+        return stats;
+    }
+
+    boolean contains(ChunkLoaderFeature.ChunkKey key) {
+        return owner(key) != null;
+    }
+
+    int size() {
+        int total = 0;
+        for (Table table : tables) {
+            total += table.size;
+        }
+        return total;
+    }
+
+    /**
+     * Snapshot of every claimed chunk (for ticket passes and validation).
+     */
+    List<ChunkLoaderFeature.ChunkKey> keys() {
+        Table[] current = tables;
+        String[] names = worldNames;
+        List<ChunkLoaderFeature.ChunkKey> out = new ArrayList<>(size());
+        for (int id = 0; id < current.length; id++) {
+            AtomicReferenceArray<Entry> slots = current[id].slots;
+            for (int i = 0; i < slots.length(); i++) {
+                Entry entry = slots.get(i);
+                if (entry != null && entry != Table.TOMBSTONE) {
+                    long packed = entry.key();
+                    out.add(new ChunkLoaderFeature.ChunkKey(names[id], (int) packed, (int) (packed >> 32)));
+                }
+            }
+        }
+        return out;
+    }
+
+    // ==================== AREA QUERIES ====================
+
+    /**
+     * Claims within radius chunks (square) of a chunk, nearest first.
+     */
+    List<ChunkLoaderFeature.ChunkKey> within(String worldName, int cx, int cz, int radius) {
+        Map<Long, long[]> buckets = regions.get(worldName);
+        List<ChunkLoaderFeature.ChunkKey> out = new ArrayList<>();
+        if (buckets == null) return out;
+
+        for (int rx = (cx - radius) >> 5; rx <= (cx + radius) >> 5; rx++) {
+            for (int rz = (cz - radius) >> 5; rz <= (cz + radius) >> 5; rz++) {
+                long[] chunks = buckets.get(Chunk.getChunkKey(rx, rz));
+                if (chunks == null) continue;
+                for (long packed : chunks) {
+                    int x = (int) packed;
+                    int z = (int) (packed >> 32);
+                    if (Math.abs(x - cx) <= radius && Math.abs(z - cz) <= radius) {
+                        out.add(new ChunkLoaderFeature.ChunkKey(worldName, x, z));
+                    }
+                }
+            }
+        }
+        out.sort(byDistance(cx, cz));
+        return out;
+    }
+
+    /**
+     * Up to limit claims closest to a chunk, searching at most maxRadius chunks out.
+     * Walks rings of region buckets outwards and stops once no closer claim can turn up.
+     */
+    List<ChunkLoaderFeature.ChunkKey> nearest(String worldName, int cx, int cz, int limit, int maxRadius) {
+        Map<Long, long[]> buckets = regions.get(worldName);
+        List<ChunkLoaderFeature.ChunkKey> found = new ArrayList<>();
+        if (buckets == null || buckets.isEmpty()) return found;
+
+        int rcx = cx >> 5;
+        int rcz = cz >> 5;
+        Comparator<ChunkLoaderFeature.ChunkKey> order = byDistance(cx, cz);
+
+        for (int ring = 0; ring <= (maxRadius >> 5) + 1; ring++) {
+            for (int rx = rcx - ring; rx <= rcx + ring; rx++) {
+                for (int rz = rcz - ring; rz <= rcz + ring; rz++) {
+                    // Only the edge of the ring; the inside was visited already
+                    if (Math.abs(rx - rcx) != ring && Math.abs(rz - rcz) != ring) continue;
+
+                    long[] chunks = buckets.get(Chunk.getChunkKey(rx, rz));
+                    if (chunks == null) continue;
+                    for (long packed : chunks) {
+                        found.add(new ChunkLoaderFeature.ChunkKey(worldName, (int) packed, (int) (packed >> 32)));
+                    }
+                }
+            }
+
+            // Anything in the next ring is at least ring * 32 chunks away
+            if (found.size() >= limit) {
+                found.sort(order);
+                if (distanceSq(found.get(limit - 1), cx, cz) <= (long) ring * 32 * ring * 32) break;
+            }
+        }
+
+        found.sort(order);
+        found.removeIf(key -> distanceSq(key, cx, cz) > (long) maxRadius * maxRadius);
+        return found.size() > limit ? new ArrayList<>(found.subList(0, limit)) : found;
+    }
+
+    /**
+     * Claim count per region file of a world, keyed like Chunk.getChunkKey(regionX, regionZ).
+     */
+    Map<Long, Integer> regionCounts(String worldName) {
+        Map<Long, Integer> counts = new HashMap<>();
+        Map<Long, long[]> buckets = regions.get(worldName);
+        if (buckets != null) {
+            buckets.forEach((region, chunks) -> counts.put(region, chunks.length));
+        }
+        return counts;
+    }
+
+    /**
+     * Check if owner holds a claim sharing an edge with the given chunk.
+     */
+    boolean hasNeighbour(ChunkLoaderFeature.ChunkKey key, UUID owner) {
+        int world = existingWorldId(key.worldName());
+        return owner.equals(owner(world, Chunk.getChunkKey(key.x() + 1, key.z())))
+            || owner.equals(owner(world, Chunk.getChunkKey(key.x() - 1, key.z())))
+            || owner.equals(owner(world, Chunk.getChunkKey(key.x(), key.z() + 1)))
+            || owner.equals(owner(world, Chunk.getChunkKey(key.x(), key.z() - 1)));
+    }
+
+    private static Comparator<ChunkLoaderFeature.ChunkKey> byDistance(int cx, int cz) {
+        return Comparator.comparingLong(key -> distanceSq(key, cx, cz));
+    }
+
+    private static long distanceSq(ChunkLoaderFeature.ChunkKey key, int cx, int cz) {
+        long dx = key.x() - cx;
+        long dz = key.z() - cz;
+        return dx * dx + dz * dz;
+    }
+
+    // ==================== WRITES ====================
+
+    /**
+     * Claim a chunk if it's free. Returns the existing owner, or null if the claim went in.
+     */
+    synchronized UUID putIfAbsent(ChunkLoaderFeature.ChunkKey key, UUID owner) {
+        int id = worldId(key.worldName());
+        Table table = tables[id];
+        long packed = Chunk.getChunkKey(key.x(), key.z());
+        UUID existing = table.get(packed);
+        if (existing != null) return existing;
+
+        table.put(packed, owner);
+        addToRegion(key, packed);
+        stats.claimed(owner, key.worldName());
+        return null;
+    }
+
+    /**
+     * Claim many chunks at once (snapshot load, import). Chunks that are already
+     * claimed keep their owner. Each world's table is sized once, filled while
+     * unpublished and then published, and each region bucket is rebuilt once.
+     * Returns the keys that went in.
+     */
+    synchronized List<ChunkLoaderFeature.ChunkKey> putAll(Map<ChunkLoaderFeature.ChunkKey, UUID> claims) {
+        Map<String, List<Map.Entry<ChunkLoaderFeature.ChunkKey, UUID>>> byWorld = new HashMap<>();
+        for (Map.Entry<ChunkLoaderFeature.ChunkKey, UUID> entry : claims.entrySet()) {
+            byWorld.computeIfAbsent(entry.getKey().worldName(), k -> new ArrayList<>()).add(entry);
+        }
+
+        List<ChunkLoaderFeature.ChunkKey> added = new ArrayList<>(claims.size());
+        for (Map.Entry<String, List<Map.Entry<ChunkLoaderFeature.ChunkKey, UUID>>> world : byWorld.entrySet()) {
+            String worldName = world.getKey();
+            int id = worldId(worldName);
+            Table table = tables[id];
+            AtomicReferenceArray<Entry> slots = table.copyFor(table.size + world.getValue().size());
+            Map<Long, List<Long>> regionAdds = new HashMap<>();
+            int size = table.size;
+
+            for (Map.Entry<ChunkLoaderFeature.ChunkKey, UUID> entry : world.getValue()) {
+                ChunkLoaderFeature.ChunkKey key = entry.getKey();
+                long packed = Chunk.getChunkKey(key.x(), key.z());
+                if (!Table.insertIfAbsent(slots, packed, entry.getValue())) continue;
+
+                size++;
+                added.add(key);
+                regionAdds.computeIfAbsent(Chunk.getChunkKey(key.x() >> 5, key.z() >> 5), k -> new ArrayList<>()).add(packed);
+                stats.claimed(entry.getValue(), worldName);
+            }
+            table.publish(slots, size, size);
+
+            Map<Long, long[]> buckets = regions.computeIfAbsent(worldName, k -> new ConcurrentHashMap<>());
+            regionAdds.forEach((region, packedChunks) -> {
+                long[] existing = buckets.getOrDefault(region, new long[0]);
+                long[] merged = Arrays.copyOf(existing, existing.length + packedChunks.size());
+                for (int i = 0; i < packedChunks.size(); i++) {
+                    merged[existing.length + i] = packedChunks.get(i);
+                }
+                buckets.put(region, merged);
+            });
+        }
+        return added;
+    }
+
+    /**
+     * Set the owner of a chunk. Returns the previous owner, if any.
+     */
+    synchronized UUID put(ChunkLoaderFeature.ChunkKey key, UUID owner) {
+        int id = worldId(key.worldName());
+        Table table = tables[id];
+        long packed = Chunk.getChunkKey(key.x(), key.z());
+        UUID previous = table.get(packed);
+        if (!owner.equals(previous)) {
+            table.put(packed, owner);
+            if (previous == null) {
+                addToRegion(key, packed);
+            } else {
+                stats.unclaimed(previous, key.worldName());
+            }
+            stats.claimed(owner, key.worldName());
+        }
+        return previous;
+    }
+
+    /**
+     * Unclaim a chunk. Returns the previous owner, if any.
+     */
+    synchronized UUID remove(ChunkLoaderFeature.ChunkKey key) {
+        int id = existingWorldId(key.worldName());
+        if (id < 0) return null;
+
+        long packed = Chunk.getChunkKey(key.x(), key.z());
+        UUID previous = tables[id].remove(packed);
+        if (previous != null) {
+            removeFromRegion(key, packed);
+            stats.unclaimed(previous, key.worldName());
+        }
+        return previous;
+    }
+
+    /**
+     * Unclaim a chunk only if it's held by the given owner.
+     */
+    synchronized boolean remove(ChunkLoaderFeature.ChunkKey key, UUID owner) {
+        int id = existingWorldId(key.worldName());
+        if (id < 0) return false;
+
+        long packed = Chunk.getChunkKey(key.x(), key.z());
+        if (!owner.equals(tables[id].get(packed))) return false;
+
+        tables[id].remove(packed);
+        removeFromRegion(key, packed);
+        stats.unclaimed(owner, key.worldName());
+        return true;
+    }
+
+    private int worldId(String worldName) {
+        Integer id = worldIds.get(worldName);
+        if (id != null) return id;
+
+        // New world: grow both arrays before the id becomes visible to readers
+        int next = tables.length;
+        String[] names = Arrays.copyOf(worldNames, next + 1);
+        names[next] = worldName;
+        Table[] grown = Arrays.copyOf(tables, next + 1);
+        grown[next] = new Table();
+        worldNames = names;
+        tables = grown;
+        worldIds.put(worldName, next);
+        return next;
+    }
+
+    private void addToRegion(ChunkLoaderFeature.ChunkKey key, long packed) {
+        regions.computeIfAbsent(key.worldName(), k -> new ConcurrentHashMap<>())
+            .merge(Chunk.getChunkKey(key.x() >> 5, key.z() >> 5), new long[] { packed }, (chunks, added) -> {
+                long[] grown = Arrays.copyOf(chunks, chunks.length + 1);
+                grown[chunks.length] = packed;
+                return grown;
+            });
+    }
+
+    private void removeFromRegion(ChunkLoaderFeature.ChunkKey key, long packed) {
+        Map<Long, long[]> buckets = regions.get(key.worldName());
+        if (buckets == null) return;
+
+        buckets.computeIfPresent(Chunk.getChunkKey(key.x() >> 5, key.z() >> 5), (region, chunks) -> {
+            long[] kept = Arrays.stream(chunks).filter(c -> c != packed).toArray();
+            return kept.length > 0 ? kept : null;
+        });
+    }
+
+    // ==================== TABLE ====================
+
+    /**
+     * Open-addressing long -> UUID table (linear probing, load factor <= 0.5).
+     *
+     * Slots hold immutable entries, so a reader never sees a key paired with the
+     * wrong owner. Removed slots become tombstones, which keeps probe chains intact
+     * for concurrent readers; they're dropped when the slot array is rebuilt. Only
+     * called under ClaimIndex's lock, except get().
+     */
+    private static final class Table {
+        static final Entry TOMBSTONE = new Entry(0, null);
+
+        volatile AtomicReferenceArray<Entry> slots = new AtomicReferenceArray<>(4);
+        volatile int size;
+        int used; // Live entries plus tombstones
+
+        UUID get(long key) {
+            AtomicReferenceArray<Entry> current = slots;
+            int mask = current.length() - 1;
+            Entry entry;
+            for (int i = mix(key) & mask; (entry = current.get(i)) != null; i = (i + 1) & mask) {
+                if (entry != TOMBSTONE && entry.key() == key) return entry.owner();
+            }
+            return null;
+        }
+
+        /**
+         * Insert or replace. Copies the slot array only when the load factor requires it.
+         */
+        void put(long key, UUID owner) {
+            AtomicReferenceArray<Entry> current = slots;
+            int mask = current.length() - 1;
+            int free = -1;
+            Entry entry;
+            int i = mix(key) & mask;
+            for (; (entry = current.get(i)) != null; i = (i + 1) & mask) {
+                if (entry == TOMBSTONE) {
+                    if (free < 0) free = i;
+                } else if (entry.key() == key) {
+                    current.set(i, new Entry(key, owner));
+                    return;
+                }
+            }
+
+            if (free >= 0) {
+                current.set(free, new Entry(key, owner));
+                size++;
+                return;
+            }
+            if ((used + 1) * 2 > current.length()) {
+                AtomicReferenceArray<Entry> grown = copyFor(size + 1);
+                insertIfAbsent(grown, key, owner);
+                publish(grown, size + 1, size + 1);
+                return;
+            }
+            current.set(i, new Entry(key, owner));
+            size++;
+            used++;
+        }
+
+        /**
+         * Remove a key, leaving a tombstone. Returns the previous owner.
+         */
+        UUID remove(long key) {
+            AtomicReferenceArray<Entry> current = slots;
+            int mask = current.length() - 1;
+            Entry entry;
+            for (int i = mix(key) & mask; (entry = current.get(i)) != null; i = (i + 1) & mask) {
+                if (entry != TOMBSTONE && entry.key() == key) {
+                    current.set(i, TOMBSTONE);
+                    size--;
+                    return entry.owner();
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Unpublished copy of the live entries, sized for expected entries.
+         */
+        AtomicReferenceArray<Entry> copyFor(int expected) {
+            int capacity = 4;
+            while (capacity < expected * 2) capacity <<= 1;
+
+            AtomicReferenceArray<Entry> current = slots;
+            AtomicReferenceArray<Entry> copy = new AtomicReferenceArray<>(capacity);
+            for (int i = 0; i < current.length(); i++) {
+                Entry entry = current.get(i);
+                if (entry != null && entry != TOMBSTONE) {
+                    insertIfAbsent(copy, entry.key(), entry.owner());
+                }
+            }
+            return copy;
+        }
+
+        void publish(AtomicReferenceArray<Entry> copy, int size, int used) {
+            this.used = used;
+            this.size = size;
+            this.slots = copy;
+        }
+
+        /**
+         * Insert into a tombstone-free array that isn't published yet. False if the key is present.
+         */
+        static boolean insertIfAbsent(AtomicReferenceArray<Entry> slots, long key, UUID owner) {
+            int mask = slots.length() - 1;
+            int i = mix(key) & mask;
+            Entry entry;
+            while ((entry = slots.get(i)) != null) {
+                if (entry.key() == key) return false;
+                i = (i + 1) & mask;
+            }
+            slots.set(i, new Entry(key, owner));
+            return true;
+        }
+
+        private static int mix(long key) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+
+    private record Entry(long key, UUID owner) {
+    }
+}
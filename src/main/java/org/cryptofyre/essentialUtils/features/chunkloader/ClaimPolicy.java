@@ -0,0 +1,75 @@
+package org.cryptofyre.essentialUtils.features.chunkloader;
+
+import java.util.Locale;
+
+/**
+ * When a claimed chunk should hold its ticket.
+ *
+ * - ALWAYS: loaded all the time (the original behaviour)
+ * - ONLINE: loaded only while the owner is online
+ * - GRACE: loaded while the owner is online and for graceHours after they log out
+ */
+public record ClaimPolicy(Mode mode, int graceHours) {
+
+    public enum Mode {
+        ALWAYS,
+        ONLINE,
+        GRACE
+    }
+
+    public static final ClaimPolicy ALWAYS = new ClaimPolicy(Mode.ALWAYS, 0);
+    public static final ClaimPolicy ONLINE = new ClaimPolicy(Mode.ONLINE, 0);
+
+    public static ClaimPolicy grace(int hours) {
+        return new ClaimPolicy(Mode.GRACE, Math.max(1, hours));
+    }
+
+    /**
+     * Check if the chunk should be loaded right now.
+     */
+    public boolean wantsLoaded(boolean ownerOnline, long ownerLastSeen, long now) {
+        return switch (mode) {
+            case ALWAYS -> true;
+            case ONLINE -> ownerOnline;
+            case GRACE -> ownerOnline || now - ownerLastSeen < graceHours * 3_600_000L;
+        };
+    }
+
+    /**
+     * Human-readable form for chat.
+     */
+    public String describe() {
+        return switch (mode) {
+            case ALWAYS -> "always loaded";
+            case ONLINE -> "loaded while you're online";
+            case GRACE -> "loaded until " + graceHours + "h after logout";
+        };
+    }
+
+    /**
+     * Storage form: ALWAYS, ONLINE or GRACE:hours.
+     */
+    @Override
+    public String toString() {
+        return mode == Mode.GRACE ? mode + ":" + graceHours : mode.name();
+    }
+
+    /**
+     * Parse the storage/config form. A bare "grace" uses defaultGraceHours.
+     * Returns null for anything unrecognised.
+     */
+    public static ClaimPolicy fromString(String str, int defaultGraceHours) {
+        if (str == null) return null;
+
+        String[] parts = str.trim().toUpperCase(Locale.ROOT).split(":");
+        try {
+            return switch (Mode.valueOf(parts[0])) {
+                case ALWAYS -> ALWAYS;
+                case ONLINE -> ONLINE;
+                case GRACE -> grace(parts.length > 1 ? Integer.parseInt(parts[1]) : defaultGraceHours);
+            };
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package org.cryptofyre.essentialUtils.features.chunkloader;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Claim counters kept up to date on every claim and unclaim, so statistics
+ * never have to walk all claims.
+ *
+ * Holds per-world totals, per-owner counts and a ranking of owners by claim
+ * count (count descending, then UUID), so the top K owners cost O(K) to read.
+ * Updated from ClaimIndex's synchronized writes.
+ */
+final class ClaimStats {
+    private static final Comparator<Rank> ORDER = Comparator.comparingInt(Rank::count).reversed()
+        .thenComparing(Rank::owner);
+
+    private final Map<String, Integer> perWorld = new HashMap<>();
+    private final Map<UUID, Integer> perOwner = new HashMap<>();
+    private final TreeSet<Rank> ranking = new TreeSet<>(ORDER);
+
+    synchronized void claimed(UUID owner, String worldName) {
+        perWorld.merge(worldName, 1, Integer::sum);
+        adjust(owner, 1);
+    }
+
+    synchronized void unclaimed(UUID owner, String worldName) {
+        perWorld.computeIfPresent(worldName, (w, n) -> n > 1 ? n - 1 : null);
+        adjust(owner, -1);
+    }
+
+    private void adjust(UUID owner, int delta) {
+        int before = perOwner.getOrDefault(owner, 0);
+        int after = Math.max(0, before + delta);
+
+        if (before > 0) ranking.remove(new Rank(owner, before));
+        if (after > 0) {
+            perOwner.put(owner, after);
+            ranking.add(new Rank(owner, after));
+        } else {
+            perOwner.remove(owner);
+        }
+    }
+
+    /**
+     * Claim count per world (copy).
+     */
+    synchronized Map<String, Integer> perWorld() {
+        return new HashMap<>(perWorld);
+    }
+
+    /**
+     * Number of owners with at least one claim.
+     */
+    synchronized int owners() {
+        return perOwner.size();
+    }
+
+    /**
+     * The k owners with the most claims, most first.
+     */
+    synchronized List<Rank> top(int k) {
+        List<Rank> out = new ArrayList<>(Math.min(k, ranking.size()));
+        Iterator<Rank> it = ranking.iterator();
+        while (it.hasNext() && out.size() < k) {
+            out.add(it.next());
+        }
+        return out;
+    }
+
+    record Rank(UUID owner, int count) {
+    }
+}
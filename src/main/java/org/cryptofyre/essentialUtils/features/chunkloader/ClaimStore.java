@@ -0,0 +1,106 @@
+package org.cryptofyre.essentialUtils.features.chunkloader;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Storage backend for chunk claims, harvesters, load policies and owner last-seen times.
+ *
+ * Implementations must never block the calling thread: load() completes off-thread,
+ * and changes are only queued by submit() and written in the background.
+ * Backends shared between servers report other nodes' changes through the
+ * listener passed to start().
+ */
+public interface ClaimStore {
+
+    /**
+     * Short backend name for logs and /eutils status.
+     */
+    String name();
+
+    /**
+     * Read every claim and harvester. Must complete before start() is called.
+     */
+    CompletableFuture<Snapshot> load();
+
+    /**
+     * Start writing queued changes. Changes made by other servers are passed to
+     * remoteChanges on the store's I/O thread.
+     */
+    void start(Consumer<Change> remoteChanges);
+
+    /**
+     * Queue a change to be persisted.
+     */
+    void submit(Change change);
+
+    /**
+     * Flush queued changes and release resources.
+     */
+    void close();
+
+    // ==================== CONVENIENCE ====================
+
+    default void claim(UUID owner, ChunkLoaderFeature.ChunkKey key) {
+        submit(new Change(ChangeType.CLAIM, key, owner, null));
+    }
+
+    default void unclaim(UUID owner, ChunkLoaderFeature.ChunkKey key) {
+        submit(new Change(ChangeType.UNCLAIM, key, owner, null));
+    }
+
+    default void setHarvester(ChunkLoaderFeature.Harvester harvester) {
+        submit(new Change(ChangeType.HARVESTER, harvester.claim(), null, harvester));
+    }
+
+    default void removeHarvester(ChunkLoaderFeature.ChunkKey key) {
+        submit(new Change(ChangeType.REMOVE_HARVESTER, key, null, null));
+    }
+
+    /**
+     * Set a claim's load policy; null resets it to the configured default.
+     */
+    default void setPolicy(ChunkLoaderFeature.ChunkKey key, ClaimPolicy policy) {
+        submit(new Change(ChangeType.POLICY, key, null, null, policy, 0L));
+    }
+
+    default void lastSeen(UUID owner, long time) {
+        submit(new Change(ChangeType.LAST_SEEN, null, owner, null, null, time));
+    }
+
+    // ==================== TYPES ====================
+
+    enum ChangeType {
+        CLAIM,
+        UNCLAIM,
+        HARVESTER,
+        REMOVE_HARVESTER,
+        POLICY,
+        LAST_SEEN
+    }
+
+    /**
+     * One claim change. owner is set for CLAIM/UNCLAIM/LAST_SEEN, harvester for HARVESTER,
+     * policy for POLICY (null = default) and time for LAST_SEEN.
+     */
+    record Change(ChangeType type, ChunkLoaderFeature.ChunkKey key, UUID owner,
+                  ChunkLoaderFeature.Harvester harvester, ClaimPolicy policy, long time) {
+
+        public Change(ChangeType type, ChunkLoaderFeature.ChunkKey key, UUID owner,
+                      ChunkLoaderFeature.Harvester harvester) {
+            this(type, key, owner, harvester, null, 0L);
+        }
+    }
+
+    /**
+     * Everything as loaded. policies only holds claims with a non-default policy.
+     */
+    record Snapshot(Map<ChunkLoaderFeature.ChunkKey, UUID> owners,
+                    List<ChunkLoaderFeature.Harvester> harvesters,
+                    Map<ChunkLoaderFeature.ChunkKey, ClaimPolicy> policies,
+                    Map<UUID, Long> lastSeen) {
+    }
+}
@@ -0,0 +1,108 @@
+package org.cryptofyre.essentialUtils.features.chunkloader;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.cryptofyre.essentialUtils.EssentialUtils;
+import org.bukkit.World;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Incremental validation of claimed chunks.
+ *
+ * Each pass takes a snapshot of the claims and walks it with a cursor, a bounded
+ * slice per tick, so the checks are spread over the whole validation interval
+ * instead of landing in one tick. Every chunk is checked on its own region thread
+ * via the RegionScheduler. A lost ticket is handed back to the ChunkTicketManager
+ * rather than added here, so it stays in step with the manager's pending changes.
+ */
+public class ClaimValidator {
+    // Hard cap on chunks dispatched per tick, however short the interval
+    private static final int MAX_PER_TICK = 64;
+
+    private final EssentialUtils plugin;
+    private final Supplier<List<ChunkLoaderFeature.ChunkKey>> claims;
+    private final Predicate<ChunkLoaderFeature.ChunkKey> stillClaimed;
+    private final Consumer<ChunkLoaderFeature.ChunkKey> restoreTicket;
+    private final int intervalTicks;
+
+    // Global region thread only
+    private ChunkLoaderFeature.ChunkKey[] pass = new ChunkLoaderFeature.ChunkKey[0];
+    private int cursor = 0;
+    private int perTick = 1;
+    private long ticksUntilNextPass = 0;
+
+    private ScheduledTask task;
+
+    public ClaimValidator(EssentialUtils plugin, int intervalSeconds,
+                          Supplier<List<ChunkLoaderFeature.ChunkKey>> claims,
+                          Predicate<ChunkLoaderFeature.ChunkKey> stillClaimed,
+                          Consumer<ChunkLoaderFeature.ChunkKey> restoreTicket) {
+        this.plugin = plugin;
+        this.claims = claims;
+        this.stillClaimed = stillClaimed;
+        this.restoreTicket = restoreTicket;
+        this.intervalTicks = Math.max(20, intervalSeconds * 20);
+    }
+
+    /**
+     * Start validating; the first pass begins one interval from now.
+     */
+    public void start() {
+        ticksUntilNextPass = intervalTicks;
+        task = plugin.getServer().getGlobalRegionScheduler().runAtFixedRate(
+            plugin,
+            t -> tick(),
+            1L,
+            1L
+        );
+    }
+
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+        }
+    }
+
+    private void tick() {
+        if (--ticksUntilNextPass <= 0 && cursor >= pass.length) {
+            startPass();
+        }
+
+        int end = Math.min(pass.length, cursor + perTick);
+        for (; cursor < end; cursor++) {
+            dispatch(pass[cursor]);
+            pass[cursor] = null; // Let the snapshot drain as we go
+        }
+    }
+
+    private void startPass() {
+        pass = claims.get().toArray(new ChunkLoaderFeature.ChunkKey[0]);
+        cursor = 0;
+        ticksUntilNextPass = intervalTicks;
+
+        // Spread the pass over the interval (leaving a little headroom), within the cap
+        int spreadTicks = Math.max(1, intervalTicks - 20);
+        perTick = Math.min(MAX_PER_TICK, Math.max(1, (pass.length + spreadTicks - 1) / spreadTicks));
+    }
+
+    /**
+     * Check one claim on the region thread that owns it.
+     */
+    private void dispatch(ChunkLoaderFeature.ChunkKey key) {
+        World world = plugin.getServer().getWorld(key.worldName());
+        if (world == null) return;
+
+        plugin.getServer().getRegionScheduler().execute(plugin, world, key.x(), key.z(), () -> {
+            // Unclaimed since the pass started
+            if (!stillClaimed.test(key)) return;
+
+            // Ticket lost if the chunk isn't loaded; queue it to be re-added
+            if (!world.isChunkLoaded(key.x(), key.z())) {
+                restoreTicket.accept(key);
+            }
+        });
+    }
+}
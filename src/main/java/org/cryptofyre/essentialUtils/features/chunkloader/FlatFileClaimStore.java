@@ -0,0 +1,263 @@
+package org.cryptofyre.essentialUtils.features.chunkloader;
+
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Flat-file claim store for a single server.
+ *
+ * Layout in the plugin data folder:
+ * - claims.dat: snapshot of every claim, harvester, policy and last-seen time
+ * - claims.log: changes appended since the snapshot
+ *
+ * Each batch is appended to the log with one fsync. Once the log grows large enough
+ * (and on shutdown) it is folded into a new snapshot, written to a temp file and then
+ * atomically renamed. Replaying the log over the snapshot is idempotent, so a crash
+ * at any point loses at most the batch being written.
+ */
+public class FlatFileClaimStore extends AbstractClaimStore {
+    /** Log entries accumulated before the log is folded into a new snapshot */
+    private static final int COMPACT_AFTER_OPS = 1024;
+
+    private static final String SNAPSHOT_FILE = "claims.dat";
+    private static final String LOG_FILE = "claims.log";
+
+    // Line format: op <TAB> payload [<TAB> payload]
+    private static final String OP_CLAIM = "C";
+    private static final String OP_UNCLAIM = "U";
+    private static final String OP_HARVESTER = "H";
+    private static final String OP_REMOVE_HARVESTER = "R";
+    private static final String OP_POLICY = "P";
+    private static final String OP_LAST_SEEN = "S";
+    private static final String DEFAULT_POLICY = "-";
+
+    private final Path snapshotPath;
+    private final Path logPath;
+
+    // State as last written - filled by load(), then owned by the I/O thread
+    private final Map<ChunkLoaderFeature.ChunkKey, UUID> owners = new LinkedHashMap<>();
+    private final Map<ChunkLoaderFeature.ChunkKey, ChunkLoaderFeature.Harvester> harvesters = new LinkedHashMap<>();
+    private final Map<ChunkLoaderFeature.ChunkKey, ClaimPolicy> policies = new LinkedHashMap<>();
+    private final Map<UUID, Long> lastSeen = new LinkedHashMap<>();
+    private int logOps = 0;
+
+    public FlatFileClaimStore(JavaPlugin plugin, long writeDelayMs) {
+        super(plugin, writeDelayMs);
+        this.snapshotPath = plugin.getDataFolder().toPath().resolve(SNAPSHOT_FILE);
+        this.logPath = plugin.getDataFolder().toPath().resolve(LOG_FILE);
+    }
+
+    @Override
+    public String name() {
+        return "flatfile";
+    }
+
+    @Override
+    public CompletableFuture<Snapshot> load() {
+        return CompletableFuture.supplyAsync(() -> {
+            owners.clear();
+            harvesters.clear();
+            policies.clear();
+            lastSeen.clear();
+
+            replay(snapshotPath);
+            logOps = replay(logPath);
+
+            return new Snapshot(new HashMap<>(owners), new ArrayList<>(harvesters.values()),
+                new HashMap<>(policies), new HashMap<>(lastSeen));
+        });
+    }
+
+    /**
+     * True if the plugin folder holds flat-file claims, e.g. left behind by a switch to SQLite.
+     */
+    static boolean hasData(JavaPlugin plugin) {
+        Path folder = plugin.getDataFolder().toPath();
+        return Files.exists(folder.resolve(SNAPSHOT_FILE)) || Files.exists(folder.resolve(LOG_FILE));
+    }
+
+    /**
+     * Rename the files to *.migrated once their claims live in another store, so they
+     * aren't imported twice and a later switch back doesn't load stale claims.
+     */
+    void retire() throws IOException {
+        for (Path path : List.of(snapshotPath, logPath)) {
+            if (Files.exists(path)) {
+                Files.move(path, path.resolveSibling(path.getFileName() + ".migrated"),
+                    StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    @Override
+    protected void write(List<Change> batch) throws IOException {
+        Files.createDirectories(logPath.getParent());
+        try (FileOutputStream out = new FileOutputStream(logPath.toFile(), true);
+             BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+            for (Change change : batch) {
+                String line = format(change);
+                apply(line);
+                writer.write(line);
+                writer.newLine();
+            }
+            writer.flush();
+            out.getFD().sync();
+        }
+        logOps += batch.size();
+    }
+
+    @Override
+    protected void idle() throws IOException {
+        if (logOps >= COMPACT_AFTER_OPS) {
+            compact();
+        }
+    }
+
+    @Override
+    protected void shutdown() throws IOException {
+        if (logOps > 0) {
+            compact();
+        }
+    }
+
+    /**
+     * Write the current state to a new snapshot and drop the log.
+     */
+    private void compact() throws IOException {
+        Path tmp = snapshotPath.resolveSibling(SNAPSHOT_FILE + ".tmp");
+        Files.createDirectories(snapshotPath.getParent());
+        try (FileOutputStream out = new FileOutputStream(tmp.toFile());
+             BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+            for (Map.Entry<ChunkLoaderFeature.ChunkKey, UUID> entry : owners.entrySet()) {
+                writer.write(OP_CLAIM + "\t" + entry.getValue() + "\t" + entry.getKey());
+                writer.newLine();
+            }
+            for (ChunkLoaderFeature.Harvester harvester : harvesters.values()) {
+                writer.write(OP_HARVESTER + "\t" + harvester);
+                writer.newLine();
+            }
+            for (Map.Entry<ChunkLoaderFeature.ChunkKey, ClaimPolicy> entry : policies.entrySet()) {
+                writer.write(OP_POLICY + "\t" + entry.getKey() + "\t" + entry.getValue());
+                writer.newLine();
+            }
+            for (Map.Entry<UUID, Long> entry : lastSeen.entrySet()) {
+                writer.write(OP_LAST_SEEN + "\t" + entry.getKey() + "\t" + entry.getValue());
+                writer.newLine();
+            }
+            writer.flush();
+            out.getFD().sync();
+        }
+
+        // Snapshot replaces the old one in one step; the log is only dropped afterwards
+        Files.move(tmp, snapshotPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        Files.deleteIfExists(logPath);
+        logOps = 0;
+    }
+
+    private static String format(Change change) {
+        return switch (change.type()) {
+            case CLAIM -> OP_CLAIM + "\t" + change.owner() + "\t" + change.key();
+            case UNCLAIM -> OP_UNCLAIM + "\t" + change.key();
+            case HARVESTER -> OP_HARVESTER + "\t" + change.harvester();
+            case REMOVE_HARVESTER -> OP_REMOVE_HARVESTER + "\t" + change.key();
+            case POLICY -> OP_POLICY + "\t" + change.key() + "\t"
+                + (change.policy() == null ? DEFAULT_POLICY : change.policy());
+            case LAST_SEEN -> OP_LAST_SEEN + "\t" + change.owner() + "\t" + change.time();
+        };
+    }
+
+    /**
+     * Apply every line of a file to the in-memory state. Returns the number of lines applied.
+     */
+    private int replay(Path path) {
+        if (!Files.exists(path)) return 0;
+
+        int count = 0;
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (apply(line)) count++;
+            }
+        } catch (IOException e) {
+            // Don't start from a partial image - compaction would overwrite the rest
+            throw new UncheckedIOException("Failed to read " + path.getFileName(), e);
+        }
+        return count;
+    }
+
+    /**
+     * Apply one line. Malformed lines (e.g. a write cut short by a crash) are skipped.
+     */
+    private boolean apply(String line) {
+        String[] parts = line.split("\t");
+        try {
+            switch (parts[0]) {
+                case OP_CLAIM -> {
+                    if (parts.length != 3) return false;
+                    ChunkLoaderFeature.ChunkKey key = ChunkLoaderFeature.ChunkKey.fromString(parts[2]);
+                    if (key == null) return false;
+                    owners.put(key, UUID.fromString(parts[1]));
+                }
+                case OP_UNCLAIM -> {
+                    if (parts.length != 2) return false;
+                    ChunkLoaderFeature.ChunkKey key = ChunkLoaderFeature.ChunkKey.fromString(parts[1]);
+                    if (key == null) return false;
+                    owners.remove(key);
+                    harvesters.remove(key);
+                    policies.remove(key);
+                }
+                case OP_HARVESTER -> {
+                    if (parts.length != 2) return false;
+                    ChunkLoaderFeature.Harvester harvester = ChunkLoaderFeature.Harvester.fromString(parts[1]);
+                    if (harvester == null) return false;
+                    harvesters.put(harvester.claim(), harvester);
+                }
+                case OP_REMOVE_HARVESTER -> {
+                    if (parts.length != 2) return false;
+                    ChunkLoaderFeature.ChunkKey key = ChunkLoaderFeature.ChunkKey.fromString(parts[1]);
+                    if (key == null) return false;
+                    harvesters.remove(key);
+                }
+                case OP_POLICY -> {
+                    if (parts.length != 3) return false;
+                    ChunkLoaderFeature.ChunkKey key = ChunkLoaderFeature.ChunkKey.fromString(parts[1]);
+                    if (key == null) return false;
+                    if (DEFAULT_POLICY.equals(parts[2])) {
+                        policies.remove(key);
+                    } else {
+                        ClaimPolicy policy = ClaimPolicy.fromString(parts[2], 0);
+                        if (policy == null) return false;
+                        policies.put(key, policy);
+                    }
+                }
+                case OP_LAST_SEEN -> {
+                    if (parts.length != 3) return false;
+                    lastSeen.put(UUID.fromString(parts[1]), Long.parseLong(parts[2]));
+                }
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.cryptofyre.essentialUtils.features.chunkloader;
+
+import org.cryptofyre.essentialUtils.EssentialUtils;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Claim owner names for chat output, resolved off the main thread.
+ *
+ * Offline player lookups can hit the disk, so unknown names are looked up on the
+ * async scheduler and a short UUID is shown until the name is known.
+ */
+public class OwnerNames {
+    private final EssentialUtils plugin;
+    private final Map<UUID, String> names = new ConcurrentHashMap<>();
+    private final Set<UUID> resolving = ConcurrentHashMap.newKeySet();
+
+    public OwnerNames(EssentialUtils plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Name of an owner, or a short UUID while the name is still being looked up. Never blocks.
+     */
+    public String get(UUID owner) {
+        String name = names.get(owner);
+        if (name != null) return name;
+
+        Player online = plugin.getServer().getPlayer(owner);
+        if (online != null) {
+            names.put(owner, online.getName());
+            return online.getName();
+        }
+
+        resolve(owner);
+        return owner.toString().substring(0, 8);
+    }
+
+    /**
+     * Record the current name of a player (e.g. on join).
+     */
+    public void update(UUID owner, String name) {
+        names.put(owner, name);
+    }
+
+    /**
+     * Look up any owners not known yet, all in one background task.
+     */
+    public void warm(Collection<UUID> owners) {
+        List<UUID> unknown = new ArrayList<>();
+        for (UUID owner : owners) {
+            if (!names.containsKey(owner) && resolving.add(owner)) {
+                unknown.add(owner);
+            }
+        }
+        if (unknown.isEmpty()) return;
+
+        plugin.getServer().getAsyncScheduler().runNow(plugin, task -> {
+            for (UUID owner : unknown) {
+                lookup(owner);
+            }
+        });
+    }
+
+    private void resolve(UUID owner) {
+        if (!resolving.add(owner)) return;
+        plugin.getServer().getAsyncScheduler().runNow(plugin, task -> lookup(owner));
+    }
+
+    /**
+     * Blocking lookup of one owner claimed in resolving. Async scheduler only.
+     */
+    private void lookup(UUID owner) {
+        try {
+            // Never-seen players have no name; remember the UUID so they aren't looked up again
+            String name = plugin.getServer().getOfflinePlayer(owner).getName();
+            names.putIfAbsent(owner, name != null ? name : owner.toString());
+        } catch (RuntimeException e) {
+            // Don't let one bad lookup end a warm() batch; get() will try again later
+            plugin.getLogger().warning("Failed to look up claim owner " + owner + ": " + e);
+        } finally {
+            resolving.remove(owner);
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package org.cryptofyre.essentialUtils.features.chunkloader;
+
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * SQLite claim store, usable by several servers pointed at the same database file.
+ *
+ * Claims, harvesters, load policies and owner last-seen times live in their own tables. Every accepted write also appends a
+ * row to claim_changes tagged with this server's node id; each server polls that table
+ * for rows from other nodes and applies them, so claims made anywhere show up everywhere.
+ *
+ * Conflicts resolve in the database: a claim only succeeds if the chunk is free, and an
+ * unclaim only removes the claim if the expected owner still holds it. A rejected change
+ * writes no feed row, and the winner's row corrects the loser's local state on the next poll.
+ *
+ * Uses the SQLite JDBC driver bundled with the server.
+ */
+public class SqliteClaimStore extends AbstractClaimStore {
+    /** Feed rows older than this are deleted; nodes offline longer reload from the tables */
+    private static final long FEED_RETENTION_MS = 24 * 60 * 60 * 1000L;
+    private static final long PRUNE_INTERVAL_MS = 60 * 60 * 1000L;
+
+    private final Path file;
+    private final long pollIntervalMs;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // Used by load() and then only by the I/O thread
+    private Connection connection;
+    private long lastChangeId = 0;
+    private long nextPoll = 0;
+    private long nextPrune = 0;
+
+    public SqliteClaimStore(JavaPlugin plugin, Path file, long writeDelayMs, long pollIntervalMs) {
+        super(plugin, writeDelayMs);
+        this.file = file;
+        this.pollIntervalMs = Math.max(1000L, pollIntervalMs);
+    }
+
+    @Override
+    public String name() {
+        return "sqlite";
+    }
+
+    @Override
+    protected long idleIntervalMs() {
+        return pollIntervalMs;
+    }
+
+    @Override
+    protected boolean isTransient(Exception e) {
+        if (!(e instanceof SQLException sql) || e instanceof SQLNonTransientException) {
+            return super.isTransient(e);
+        }
+        // Primary result codes: BUSY, LOCKED, IOERR, FULL, CANTOPEN
+        return switch (sql.getErrorCode() & 0xff) {
+            case 5, 6, 10, 13, 14 -> true;
+            default -> false;
+        };
+    }
+
+    @Override
+    public CompletableFuture<Snapshot> load() {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                open();
+
+                Map<ChunkLoaderFeature.ChunkKey, UUID> owners = new HashMap<>();
+                List<ChunkLoaderFeature.Harvester> harvesters = new ArrayList<>();
+                Map<ChunkLoaderFeature.ChunkKey, ClaimPolicy> policies = new HashMap<>();
+                Map<UUID, Long> lastSeen = new HashMap<>();
+
+                try (Statement st = connection.createStatement()) {
+                    // Feed position first, so nothing committed after the reads is missed
+                    try (ResultSet rs = st.executeQuery("SELECT COALESCE(MAX(id), 0) FROM claim_changes")) {
+                        lastChangeId = rs.next() ? rs.getLong(1) : 0;
+                    }
+
+                    st.setFetchSize(1000);
+                    try (ResultSet rs = st.executeQuery("SELECT world, x, z, owner FROM claims")) {
+                        while (rs.next()) {
+                            try {
+                                owners.put(readKey(rs), UUID.fromString(rs.getString(4)));
+                            } catch (IllegalArgumentException e) {
+                                plugin.getLogger().warning("Invalid owner in claims table: " + rs.getString(4));
+                            }
+                        }
+                    }
+                    try (ResultSet rs = st.executeQuery("SELECT world, x, z, block_x, block_y, block_z FROM harvesters")) {
+                        while (rs.next()) {
+                            harvesters.add(new ChunkLoaderFeature.Harvester(readKey(rs), rs.getInt(4), rs.getInt(5), rs.getInt(6)));
+                        }
+                    }
+                    try (ResultSet rs = st.executeQuery("SELECT world, x, z, policy FROM claim_policies")) {
+                        while (rs.next()) {
+                            ClaimPolicy policy = ClaimPolicy.fromString(rs.getString(4), 0);
+                            if (policy != null) {
+                                policies.put(readKey(rs), policy);
+                            }
+                        }
+                    }
+                    try (ResultSet rs = st.executeQuery("SELECT owner, seen FROM last_seen")) {
+                        while (rs.next()) {
+                            try {
+                                lastSeen.put(UUID.fromString(rs.getString(1)), rs.getLong(2));
+                            } catch (IllegalArgumentException e) {
+                                plugin.getLogger().warning("Invalid owner in last_seen table: " + rs.getString(1));
+                            }
+                        }
+                    }
+                }
+
+                return new Snapshot(owners, harvesters, policies, lastSeen);
+            } catch (SQLException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    private void open() throws SQLException {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        } catch (java.io.IOException e) {
+            throw new SQLException("Cannot create " + file.getParent(), e);
+        }
+
+        connection = DriverManager.getConnection("jdbc:sqlite:" + file.toAbsolutePath());
+        try (Statement st = connection.createStatement()) {
+            // Other servers may hold the write lock briefly
+            st.execute("PRAGMA busy_timeout = 5000");
+            st.execute("CREATE TABLE IF NOT EXISTS claims ("
+                + "world TEXT NOT NULL, x INTEGER NOT NULL, z INTEGER NOT NULL, owner TEXT NOT NULL, "
+                + "PRIMARY KEY (world, x, z))");
+            st.execute("CREATE TABLE IF NOT EXISTS harvesters ("
+                + "world TEXT NOT NULL, x INTEGER NOT NULL, z INTEGER NOT NULL, "
+                + "block_x INTEGER NOT NULL, block_y INTEGER NOT NULL, block_z INTEGER NOT NULL, "
+                + "PRIMARY KEY (world, x, z))");
+            st.execute("CREATE TABLE IF NOT EXISTS claim_policies ("
+                + "world TEXT NOT NULL, x INTEGER NOT NULL, z INTEGER NOT NULL, policy TEXT NOT NULL, "
+                + "PRIMARY KEY (world, x, z))");
+            st.execute("CREATE TABLE IF NOT EXISTS last_seen ("
+                + "owner TEXT NOT NULL PRIMARY KEY, seen INTEGER NOT NULL)");
+            st.execute("CREATE TABLE IF NOT EXISTS claim_changes ("
+                + "id INTEGER PRIMARY KEY AUTOINCREMENT, node TEXT NOT NULL, created INTEGER NOT NULL, "
+                + "op TEXT NOT NULL, world TEXT NOT NULL, x INTEGER NOT NULL, z INTEGER NOT NULL, "
+                + "owner TEXT, block_x INTEGER, block_y INTEGER, block_z INTEGER, data TEXT)");
+
+            // Feeds created before policies were added lack the data column
+            boolean hasData = false;
+            try (ResultSet rs = st.executeQuery("PRAGMA table_info(claim_changes)")) {
+                while (rs.next()) {
+                    if ("data".equals(rs.getString("name"))) hasData = true;
+                }
+            }
+            if (!hasData) {
+                st.execute("ALTER TABLE claim_changes ADD COLUMN data TEXT");
+            }
+        }
+    }
+
+    @Override
+    protected void write(List<Change> batch) throws SQLException {
+        long now = System.currentTimeMillis();
+        connection.setAutoCommit(false);
+        try (PreparedStatement claim = connection.prepareStatement(
+                 "INSERT INTO claims (world, x, z, owner) VALUES (?, ?, ?, ?) ON CONFLICT (world, x, z) DO NOTHING");
+             PreparedStatement unclaim = connection.prepareStatement(
+                 "DELETE FROM claims WHERE world = ? AND x = ? AND z = ? AND owner = ?");
+             PreparedStatement dropHarvester = connection.prepareStatement(
+                 "DELETE FROM harvesters WHERE world = ? AND x = ? AND z = ?");
+             PreparedStatement setHarvester = connection.prepareStatement(
+                 "INSERT INTO harvesters (world, x, z, block_x, block_y, block_z) VALUES (?, ?, ?, ?, ?, ?) "
+                     + "ON CONFLICT (world, x, z) DO UPDATE SET block_x = excluded.block_x, block_y = excluded.block_y, block_z = excluded.block_z");
+             PreparedStatement setPolicy = connection.prepareStatement(
+                 "INSERT INTO claim_policies (world, x, z, policy) VALUES (?, ?, ?, ?) "
+                     + "ON CONFLICT (world, x, z) DO UPDATE SET policy = excluded.policy");
+             PreparedStatement dropPolicy = connection.prepareStatement(
+                 "DELETE FROM claim_policies WHERE world = ? AND x = ? AND z = ?");
+             PreparedStatement seen = connection.prepareStatement(
+                 "INSERT INTO last_seen (owner, seen) VALUES (?, ?) "
+                     + "ON CONFLICT (owner) DO UPDATE SET seen = MAX(seen, excluded.seen)");
+             PreparedStatement feed = connection.prepareStatement(
+                 "INSERT INTO claim_changes (node, created, op, world, x, z, owner, block_x, block_y, block_z, data) "
+                     + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+
+            for (Change change : batch) {
+                ChunkLoaderFeature.ChunkKey key = change.key();
+                boolean accepted = switch (change.type()) {
+                    case CLAIM -> {
+                        bindKey(claim, key);
+                        claim.setString(4, change.owner().toString());
+                        yield claim.executeUpdate() > 0;
+                    }
+                    case UNCLAIM -> {
+                        bindKey(unclaim, key);
+                        unclaim.setString(4, change.owner().toString());
+                        boolean removed = unclaim.executeUpdate() > 0;
+                        if (removed) {
+                            bindKey(dropHarvester, key);
+                            dropHarvester.executeUpdate();
+                            bindKey(dropPolicy, key);
+                            dropPolicy.executeUpdate();
+                        }
+                        yield removed;
+                    }
+                    case HARVESTER -> {
+                        ChunkLoaderFeature.Harvester h = change.harvester();
+                        bindKey(setHarvester, key);
+                        setHarvester.setInt(4, h.x());
+                        setHarvester.setInt(5, h.y());
+                        setHarvester.setInt(6, h.z());
+                        yield setHarvester.executeUpdate() > 0;
+                    }
+                    case REMOVE_HARVESTER -> {
+                        bindKey(dropHarvester, key);
+                        yield dropHarvester.executeUpdate() > 0;
+                    }
+                    case POLICY -> {
+                        if (change.policy() == null) {
+                            bindKey(dropPolicy, key);
+                            yield dropPolicy.executeUpdate() > 0;
+                        }
+                        bindKey(setPolicy, key);
+                        setPolicy.setString(4, change.policy().toString());
+                        yield setPolicy.executeUpdate() > 0;
+                    }
+                    case LAST_SEEN -> {
+                        seen.setString(1, change.owner().toString());
+                        seen.setLong(2, change.time());
+                        yield seen.executeUpdate() > 0;
+                    }
+                };
+                if (!accepted) continue;
+
+                feed.setString(1, nodeId);
+                feed.setLong(2, now);
+                feed.setString(3, change.type().name());
+                // LAST_SEEN isn't tied to a chunk; the feed's key columns are required, so it gets a blank one
+                feed.setString(4, key != null ? key.worldName() : "");
+                feed.setInt(5, key != null ? key.x() : 0);
+                feed.setInt(6, key != null ? key.z() : 0);
+                feed.setString(7, change.owner() != null ? change.owner().toString() : null);
+                ChunkLoaderFeature.Harvester h = change.harvester();
+                feed.setObject(8, h != null ? h.x() : null);
+                feed.setObject(9, h != null ? h.y() : null);
+                feed.setObject(10, h != null ? h.z() : null);
+                feed.setString(11, switch (change.type()) {
+                    case POLICY -> change.policy() != null ? change.policy().toString() : null;
+                    case LAST_SEEN -> Long.toString(change.time());
+                    default -> null;
+                });
+                feed.addBatch();
+            }
+            feed.executeBatch();
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    @Override
+    protected void idle() throws SQLException {
+        long now = System.currentTimeMillis();
+
+        if (now >= nextPoll) {
+            nextPoll = now + pollIntervalMs;
+            pollChanges();
+        }
+        if (now >= nextPrune) {
+            nextPrune = now + PRUNE_INTERVAL_MS;
+            try (PreparedStatement st = connection.prepareStatement("DELETE FROM claim_changes WHERE created < ?")) {
+                st.setLong(1, now - FEED_RETENTION_MS);
+                st.executeUpdate();
+            }
+        }
+    }
+
+    /**
+     * Apply changes written by other servers since the last poll, in commit order.
+     */
+    private void pollChanges() throws SQLException {
+        try (PreparedStatement st = connection.prepareStatement(
+                "SELECT id, node, op, world, x, z, owner, block_x, block_y, block_z, data FROM claim_changes WHERE id > ? ORDER BY id")) {
+            st.setLong(1, lastChangeId);
+            try (ResultSet rs = st.executeQuery()) {
+                while (rs.next()) {
+                    lastChangeId = rs.getLong(1);
+                    if (nodeId.equals(rs.getString(2))) continue;
+
+                    try {
+                        ChangeType type = ChangeType.valueOf(rs.getString(3));
+                        ChunkLoaderFeature.ChunkKey key = type == ChangeType.LAST_SEEN
+                            ? null
+                            : new ChunkLoaderFeature.ChunkKey(rs.getString(4), rs.getInt(5), rs.getInt(6));
+                        String owner = rs.getString(7);
+                        String data = rs.getString(11);
+                        ChunkLoaderFeature.Harvester harvester = type == ChangeType.HARVESTER
+                            ? new ChunkLoaderFeature.Harvester(key, rs.getInt(8), rs.getInt(9), rs.getInt(10))
+                            : null;
+                        ClaimPolicy policy = type == ChangeType.POLICY ? ClaimPolicy.fromString(data, 0) : null;
+                        long time = type == ChangeType.LAST_SEEN ? Long.parseLong(data) : 0L;
+                        remoteChanges.accept(new Change(type, key, owner != null ? UUID.fromString(owner) : null,
+                            harvester, policy, time));
+                    } catch (IllegalArgumentException e) {
+                        plugin.getLogger().warning("Skipping invalid claim change #" + lastChangeId);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    protected void shutdown() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    private static ChunkLoaderFeature.ChunkKey readKey(ResultSet rs) throws SQLException {
+        return new ChunkLoaderFeature.ChunkKey(rs.getString(1), rs.getInt(2), rs.getInt(3));
+    }
+
+    private static void bindKey(PreparedStatement st, ChunkLoaderFeature.ChunkKey key) throws SQLException {
+        st.setString(1, key.worldName());
+        st.setInt(2, key.x());
+        st.setInt(3, key.z());
+    }
+}
@@ -4,7 +4,9 @@ import org.cryptofyre.essentialUtils.config.PluginConfig;
 import org.cryptofyre.essentialUtils.features.Feature;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
 import org.bukkit.block.data.Ageable;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.Player;
 
 import java.util.HashSet;
@@ -13,10 +15,12 @@ import java.util.Set;
 /**
  * AutoFarm feature - harvests mature crops in a radius when using a hoe.
  * Always active when using a hoe on mature crops.
- * Supports auto-replanting.
+ * Supports auto-replanting, multi-layer (terraced) farms, and column crops
+ * (sugar cane, bamboo, cactus, kelp, twisting vines) harvested down to their base.
  */
 public class AutoFarmFeature implements Feature {
     private final PluginConfig cfg;
+    private final CropIndex index;
     
     // Crops that can be harvested and replanted
     private static final Set<Material> REPLANTABLE_CROPS = Set.of(
@@ -39,9 +43,24 @@ public class AutoFarmFeature implements Feature {
         Material.MELON,
         Material.PUMPKIN
     );
+    
+    // Crops that grow as vertical columns - everything above the base block is harvested
+    private static final Set<Material> COLUMN_CROPS = Set.of(
+        Material.SUGAR_CANE,
+        Material.BAMBOO,
+        Material.CACTUS,
+        Material.KELP,
+        Material.KELP_PLANT,
+        Material.TWISTING_VINES,
+        Material.TWISTING_VINES_PLANT
+    );
+    
+    /** Safety cap for the vertical walk up a column */
+    public static final int MAX_COLUMN_HEIGHT = 64;
 
-    public AutoFarmFeature(PluginConfig cfg) {
+    public AutoFarmFeature(PluginConfig cfg, CropIndex index) {
         this.cfg = cfg;
+        this.index = index;
     }
 
     @Override
@@ -52,26 +71,116 @@ public class AutoFarmFeature implements Feature {
     @Override
     public boolean canTrigger(Player p, Block origin) {
         // AutoFarm is always active with hoe - no crouch required
-        return isCrop(origin.getType()) && isMature(origin);
+        Material type = origin.getType();
+        if (isColumnCrop(type)) {
+            return cfg.autoFarmColumnHarvest() && isHarvestableColumn(origin);
+        }
+        return isCrop(type) && isMature(origin);
     }
 
     @Override
     public Set<Block> collectTargets(Player p, Block origin) {
+        if (isColumnCrop(origin.getType())) {
+            return collectColumns(origin);
+        }
+        
         int radius = cfg.autoFarmRadius();
+        int span = Math.max(0, cfg.autoFarmVerticalSpan());
         Set<Block> out = new HashSet<>();
 
-        // Scan a square area around the origin block
-        for (int dx = -radius; dx <= radius; dx++) {
-            for (int dz = -radius; dz <= radius; dz++) {
-                Block b = origin.getRelative(dx, 0, dz);
+        // Only visit crops the index knows to be mature in the box around the origin block
+        index.forEachMature(origin.getWorld(),
+            origin.getX() - radius, origin.getY() - span, origin.getZ() - radius,
+            origin.getX() + radius, origin.getY() + span, origin.getZ() + radius,
+            b -> {
                 if (isCrop(b.getType()) && isMature(b)) {
                     out.add(b);
                 }
-            }
-        }
+            });
         return out;
     }
 
+    /**
+     * Collect the base block of every harvestable column of the origin's kind.
+     * The columns themselves are walked once each when the work item runs.
+     */
+    private Set<Block> collectColumns(Block origin) {
+        Material family = columnFamily(origin.getType());
+        Block base = columnBase(origin);
+        int radius = cfg.autoFarmRadius();
+        int span = Math.max(0, cfg.autoFarmVerticalSpan());
+        Set<Block> out = new HashSet<>();
+
+        index.forEachCandidate(base.getWorld(),
+            base.getX() - radius, base.getY() - span, base.getZ() - radius,
+            base.getX() + radius, base.getY() + span, base.getZ() + radius,
+            b -> {
+                if (columnFamily(b.getType()) != family) return;
+                // Only the bottom block of a run with something above it
+                if (columnFamily(b.getRelative(BlockFace.DOWN).getType()) == family) return;
+                if (columnFamily(b.getRelative(BlockFace.UP).getType()) != family) return;
+                out.add(b);
+            });
+        return out;
+    }
+
+    /**
+     * Check if a column crop block is part of a run at least two blocks tall.
+     */
+    private static boolean isHarvestableColumn(Block b) {
+        Material family = columnFamily(b.getType());
+        return columnFamily(b.getRelative(BlockFace.UP).getType()) == family
+            || columnFamily(b.getRelative(BlockFace.DOWN).getType()) == family;
+    }
+
+    /**
+     * Walk down to the bottom block of a column.
+     */
+    public static Block columnBase(Block b) {
+        Material family = columnFamily(b.getType());
+        Block base = b;
+        for (int i = 0; i < MAX_COLUMN_HEIGHT; i++) {
+            Block below = base.getRelative(BlockFace.DOWN);
+            if (columnFamily(below.getType()) != family) break;
+            base = below;
+        }
+        return base;
+    }
+
+    /**
+     * Walk up to the top block of a column.
+     */
+    public static Block columnTop(Block base) {
+        Material family = columnFamily(base.getType());
+        Block top = base;
+        for (int i = 0; i < MAX_COLUMN_HEIGHT; i++) {
+            Block above = top.getRelative(BlockFace.UP);
+            if (columnFamily(above.getType()) != family) break;
+            top = above;
+        }
+        return top;
+    }
+
+    /**
+     * Check if a material is a column crop (sugar cane, bamboo, etc.).
+     */
+    public static boolean isColumnCrop(Material m) {
+        return COLUMN_CROPS.contains(m);
+    }
+
+    /**
+     * Get the column kind for a material, folding body blocks onto their tip
+     * (KELP_PLANT -> KELP). Returns null for non-column blocks.
+     */
+    public static Material columnFamily(Material m) {
+        return switch (m) {
+            case SUGAR_CANE, BAMBOO, CACTUS -> m;
+            case KELP, KELP_PLANT -> Material.KELP;
+            case TWISTING_VINES, TWISTING_VINES_PLANT -> Material.TWISTING_VINES;
+            default -> null;
+        };
+    }
+
     /**
      * Check if a material is a crop.
      */
@@ -83,18 +192,28 @@ public class AutoFarmFeature implements Feature {
      * Check if a block is mature (fully grown).
      */
     public static boolean isMature(Block b) {
-        Material type = b.getType();
+        return isMature(b.getType(), b.getBlockData());
+    }
+
+    /**
+     * Check if the given crop state is mature (fully grown).
+     */
+    public static boolean isMature(Material type, BlockData data) {
+        // Column crops carry a growth timer, not a harvest age
+        if (isColumnCrop(type)) {
+            return false;
+        }
         
         // Sweet berry bush: mature at age 2-3 (can harvest at 2, max at 3)
         if (type == Material.SWEET_BERRY_BUSH) {
-            if (b.getBlockData() instanceof Ageable age) {
+            if (data instanceof Ageable age) {
                 return age.getAge() >= 2;
             }
             return false;
         }
         
         // Standard ageable crops
-        if (b.getBlockData() instanceof Ageable age) {
+        if (data instanceof Ageable age) {
             return age.getAge() >= age.getMaximumAge();
         }
         
@@ -126,18 +245,4 @@ public class AutoFarmFeature implements Feature {
             default -> null;
         };
     }
-
-    /**
-     * Get the crop block type for a seed.
-     */
-    public static Material getCropBlock(Material seed) {
-        return switch (seed) {
-            case WHEAT_SEEDS -> Material.WHEAT;
-            case CARROT -> Material.CARROTS;
-            case POTATO -> Material.POTATOES;
-            case BEETROOT_SEEDS -> Material.BEETROOTS;
-            case NETHER_WART -> Material.NETHER_WART;
-            default -> null;
-        };
-    }
 }
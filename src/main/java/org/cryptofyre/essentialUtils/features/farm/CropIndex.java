@@ -0,0 +1,336 @@
+package org.cryptofyre.essentialUtils.features.farm;
+
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Per-chunk-section crop occupancy and maturity bitmaps used by AutoFarm scans.
+ *
+ * Sections are built lazily from a chunk snapshot the first time a scan touches them
+ * and are then kept in sync from block and growth events (see CropIndexListener).
+ * Scanning the harvest volume becomes a walk over set bits instead of one getRelative()
+ * per block, and harvest scans only visit crops that are already mature.
+ *
+ * Bits are candidates only - callers still verify the block before acting on it,
+ * so a missed block change costs one wasted check, never a wrong harvest.
+ */
+public class CropIndex {
+    /** Sections older than this are rebuilt, healing changes no event reported (WorldEdit, water, etc.) */
+    private static final long SECTION_TTL_MS = 5 * 60 * 1000L;
+
+    // 16x16x16 blocks = 4096 bits = 64 longs
+    private static final int SECTION_WORDS = 64;
+
+    // Rough per-object sizes for status reporting (two bitmaps + headers)
+    private static final int SECTION_BYTES = 2 * (16 + SECTION_WORDS * 8) + 32;
+    private static final int CHUNK_ENTRY_BYTES = 64;
+
+    // World UID -> chunk key -> lazily built sections
+    private final Map<UUID, Map<Long, ChunkEntry>> worlds = new ConcurrentHashMap<>();
+
+    /**
+     * Visit every indexed crop block inside the given inclusive box.
+     * Chunks that aren't loaded are skipped rather than loaded.
+     */
+    public void forEachCandidate(World world, int minX, int minY, int minZ,
+                                 int maxX, int maxY, int maxZ, Consumer<Block> action) {
+        scan(world, minX, minY, minZ, maxX, maxY, maxZ, false, action);
+    }
+
+    /**
+     * Visit every crop block inside the given inclusive box that was mature when last seen.
+     * Cost scales with the number of mature crops, not with the volume.
+     */
+    public void forEachMature(World world, int minX, int minY, int minZ,
+                              int maxX, int maxY, int maxZ, Consumer<Block> action) {
+        scan(world, minX, minY, minZ, maxX, maxY, maxZ, true, action);
+    }
+
+    private void scan(World world, int minX, int minY, int minZ,
+                      int maxX, int maxY, int maxZ, boolean matureOnly, Consumer<Block> action) {
+        minY = Math.max(minY, world.getMinHeight());
+        maxY = Math.min(maxY, world.getMaxHeight() - 1);
+        if (minY > maxY) return;
+
+        long now = System.currentTimeMillis();
+
+        for (int cx = minX >> 4; cx <= maxX >> 4; cx++) {
+            for (int cz = minZ >> 4; cz <= maxZ >> 4; cz++) {
+                if (!world.isChunkLoaded(cx, cz)) continue;
+
+                ChunkEntry entry = chunkEntry(world, cx, cz);
+                ChunkSnapshot snapshot = null;
+
+                // Clamp the box to this chunk in local coordinates
+                int lx0 = Math.max(minX, cx << 4) & 15;
+                int lx1 = Math.min(maxX, (cx << 4) + 15) & 15;
+                int lz0 = Math.max(minZ, cz << 4) & 15;
+                int lz1 = Math.min(maxZ, (cz << 4) + 15) & 15;
+                long rowMask = ((1L << (lx1 + 1)) - 1) & ~((1L << lx0) - 1);
+
+                for (int sy = minY >> 4; sy <= maxY >> 4; sy++) {
+                    Section section = entry.get(sy);
+                    if (section == null || section.isExpired(now)) {
+                        if (snapshot == null) {
+                            snapshot = world.getChunkAt(cx, cz).getChunkSnapshot(false, false, false);
+                        }
+                        section = buildSection(snapshot, sy, entry.minSection, now);
+                        entry.put(sy, section);
+                    }
+                    long[] bits = matureOnly ? section.mature : section.occupied;
+                    if ((matureOnly ? section.matureCount : section.occupiedCount) == 0) continue;
+
+                    int ly0 = Math.max(minY, sy << 4) & 15;
+                    int ly1 = Math.min(maxY, (sy << 4) + 15) & 15;
+
+                    for (int ly = ly0; ly <= ly1; ly++) {
+                        for (int lz = lz0; lz <= lz1; lz++) {
+                            // Each (y, z) row is 16 consecutive bits inside one word
+                            int bit = (ly << 8) | (lz << 4);
+                            long row = (bits[bit >> 6] >>> (bit & 63)) & rowMask;
+                            while (row != 0) {
+                                int lx = Long.numberOfTrailingZeros(row);
+                                row &= row - 1;
+                                action.accept(world.getBlockAt((cx << 4) | lx, (sy << 4) | ly, (cz << 4) | lz));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Record that a block now holds the given block data.
+     * Sections that haven't been built yet are left alone; they'll read the live state when built.
+     */
+    public void update(Block block, BlockData newData) {
+        Material type = newData.getMaterial();
+        boolean indexed = isIndexed(type);
+        set(block, indexed, indexed && AutoFarmFeature.isMature(type, newData));
+    }
+
+    /**
+     * Record that a block no longer holds a crop.
+     */
+    public void clear(Block block) {
+        set(block, false, false);
+    }
+
+    /**
+     * Record that a crop is still there but was harvested back to an immature stage.
+     */
+    public void markHarvested(Block block) {
+        set(block, true, false);
+    }
+
+    private void set(Block block, boolean occupied, boolean mature) {
+        Map<Long, ChunkEntry> chunks = worlds.get(block.getWorld().getUID());
+        if (chunks == null) return;
+
+        ChunkEntry entry = chunks.get(Chunk.getChunkKey(block.getX() >> 4, block.getZ() >> 4));
+        if (entry == null) return;
+
+        Section section = entry.get(block.getY() >> 4);
+        if (section == null) return;
+
+        section.set(bitIndex(block.getX(), block.getY(), block.getZ()), occupied, mature);
+    }
+
+    /**
+     * Drop everything cached for a chunk (called on load and unload).
+     */
+    public void invalidateChunk(World world, int cx, int cz) {
+        Map<Long, ChunkEntry> chunks = worlds.get(world.getUID());
+        if (chunks != null) {
+            chunks.remove(Chunk.getChunkKey(cx, cz));
+        }
+    }
+
+    /**
+     * Drop everything cached for a world.
+     */
+    public void clearWorld(World world) {
+        worlds.remove(world.getUID());
+    }
+
+    /**
+     * Clear all cached data (used on plugin shutdown).
+     */
+    public void clear() {
+        worlds.clear();
+    }
+
+    /**
+     * Number of chunks with at least one cached section.
+     */
+    public int trackedChunks() {
+        int total = 0;
+        for (Map<Long, ChunkEntry> chunks : worlds.values()) {
+            total += chunks.size();
+        }
+        return total;
+    }
+
+    /**
+     * Number of sections currently built.
+     */
+    public int cachedSections() {
+        int total = 0;
+        for (Map<Long, ChunkEntry> chunks : worlds.values()) {
+            for (ChunkEntry entry : chunks.values()) {
+                total += entry.builtCount();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Number of crops currently indexed as mature.
+     */
+    public int matureCount() {
+        int total = 0;
+        for (Map<Long, ChunkEntry> chunks : worlds.values()) {
+            for (ChunkEntry entry : chunks.values()) {
+                total += entry.matureCount();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Approximate heap used by the index, for /eutils status.
+     */
+    public long estimatedBytes() {
+        return (long) trackedChunks() * CHUNK_ENTRY_BYTES + (long) cachedSections() * SECTION_BYTES;
+    }
+
+    /**
+     * Check if a material belongs in the index.
+     */
+    static boolean isIndexed(Material m) {
+        return AutoFarmFeature.isCrop(m) || AutoFarmFeature.isColumnCrop(m);
+    }
+
+    private ChunkEntry chunkEntry(World world, int cx, int cz) {
+        return worlds.computeIfAbsent(world.getUID(), k -> new ConcurrentHashMap<>())
+            .computeIfAbsent(Chunk.getChunkKey(cx, cz), k -> new ChunkEntry(world));
+    }
+
+    private static Section buildSection(ChunkSnapshot snapshot, int sy, int minSection, long now) {
+        Section section = new Section(now);
+
+        // Empty sections are all air - nothing to read
+        if (snapshot.isSectionEmpty(sy - minSection)) {
+            return section;
+        }
+
+        int baseY = sy << 4;
+        for (int ly = 0; ly < 16; ly++) {
+            for (int lz = 0; lz < 16; lz++) {
+                for (int lx = 0; lx < 16; lx++) {
+                    Material type = snapshot.getBlockType(lx, baseY + ly, lz);
+                    if (!isIndexed(type)) continue;
+
+                    // Block data is only read for the (few) crop blocks
+                    boolean mature = AutoFarmFeature.isMature(type, snapshot.getBlockData(lx, baseY + ly, lz));
+                    section.set((ly << 8) | (lz << 4) | lx, true, mature);
+                }
+            }
+        }
+        return section;
+    }
+
+    private static int bitIndex(int x, int y, int z) {
+        return ((y & 15) << 8) | ((z & 15) << 4) | (x & 15);
+    }
+
+    // ==================== STORAGE ====================
+
+    /**
+     * Lazily built sections for one chunk, indexed from the world's lowest section.
+     */
+    private static final class ChunkEntry {
+        private final int minSection;
+        private final Section[] sections;
+
+        ChunkEntry(World world) {
+            this.minSection = world.getMinHeight() >> 4;
+            this.sections = new Section[(world.getMaxHeight() >> 4) - minSection];
+        }
+
+        Section get(int sy) {
+            int idx = sy - minSection;
+            return idx >= 0 && idx < sections.length ? sections[idx] : null;
+        }
+
+        void put(int sy, Section section) {
+            int idx = sy - minSection;
+            if (idx >= 0 && idx < sections.length) {
+                sections[idx] = section;
+            }
+        }
+
+        int builtCount() {
+            int count = 0;
+            for (Section s : sections) {
+                if (s != null) count++;
+            }
+            return count;
+        }
+
+        int matureCount() {
+            int count = 0;
+            for (Section s : sections) {
+                if (s != null) count += s.matureCount;
+            }
+            return count;
+        }
+    }
+
+    /**
+     * 4096-bit occupancy and maturity bitmaps for one 16x16x16 section.
+     */
+    private static final class Section {
+        private final long[] occupied = new long[SECTION_WORDS];
+        private final long[] mature = new long[SECTION_WORDS];
+        private final long builtAt;
+        private int occupiedCount;
+        private int matureCount;
+
+        Section(long builtAt) {
+            this.builtAt = builtAt;
+        }
+
+        void set(int index, boolean isOccupied, boolean isMature) {
+            occupiedCount += flip(occupied, index, isOccupied);
+            matureCount += flip(mature, index, isMature);
+        }
+
+        /**
+         * Set a bit and return the change in population (-1, 0 or 1).
+         */
+        private static int flip(long[] bits, int index, boolean value) {
+            long mask = 1L << (index & 63);
+            long word = bits[index >> 6];
+            boolean had = (word & mask) != 0;
+            if (value == had) return 0;
+
+            bits[index >> 6] = value ? word | mask : word & ~mask;
+            return value ? 1 : -1;
+        }
+
+        boolean isExpired(long now) {
+            return now - builtAt > SECTION_TTL_MS;
+        }
+    }
+}
@@ -2,34 +2,77 @@ package org.cryptofyre.essentialUtils.indicator;
 
 import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.cryptofyre.essentialUtils.EssentialUtils;
 import org.bukkit.entity.Player;
 
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service for displaying actionbar messages with automatic clearing.
- * Folia-compatible using per-player scheduling.
  * Uses Adventure API for modern text handling.
+ *
+ * Each player has a small stack of channels (persistent indicator below timed
+ * messages); the highest one with a message is what they see. A single ticker
+ * on the global region scheduler expires timed messages, re-shows what's
+ * underneath and refreshes persistent ones before they fade. Bars wait in a
+ * queue ordered by the tick they next need attention, so each tick only pops
+ * the ones that are due; a bar with nothing left to show is dropped. Sending an
+ * action bar is just a packet, so it doesn't need the player's region thread.
+ *
+ * Messages are mostly the same few strings sent over and over (the Tree Feller
+ * indicator is resent every second), so parsed components are kept in a small
+ * LRU cache. Formats with placeholders are compiled once into MessageTemplates.
  */
 public class ActionBarService {
     private final EssentialUtils plugin;
-    private final Map<UUID, ScheduledTask> clearTasks = new ConcurrentHashMap<>();
-    private final Map<UUID, String> persistentMessages = new ConcurrentHashMap<>();
-    private final Map<UUID, ScheduledTask> persistentTasks = new ConcurrentHashMap<>();
     
-    // Use legacyAmpersand to parse & color codes, and legacySection to also handle § codes
-    private static final LegacyComponentSerializer LEGACY = LegacyComponentSerializer.builder()
-        .character('&')
-        .hexColors()
-        .useUnusualXRepeatedCharacterHexFormat()
-        .build();
+    // Resend the visible message this often so it doesn't fade
+    private static final long REFRESH_TICKS = 20L;
+    
+    /**
+     * Channels in priority order, lowest first.
+     */
+    private enum Channel {
+        PERSISTENT,
+        TIMED
+    }
+    
+    private final Map<UUID, Bar> bars = new ConcurrentHashMap<>();
+    
+    // Bars by the tick they're next due, earliest first. Entries left behind when a
+    // bar's due tick moves are skipped when popped. Guarded by itself.
+    private final PriorityQueue<Due> queue = new PriorityQueue<>(Comparator.comparingLong(Due::at));
+    
+    // Ticks since the service started; written by the ticker only
+    private volatile long now = 0;
+    private ScheduledTask ticker;
+    
+    // Parsed messages, most recently used last. Guarded by itself.
+    private static final int COMPONENT_CACHE_SIZE = 256;
+    private final Map<String, Component> components = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Component> eldest) {
+            return size() > COMPONENT_CACHE_SIZE;
+        }
+    };
+    
+    // Compiled templates by format; formats come from config, so there are few
+    private static final int TEMPLATE_CACHE_SIZE = 64;
+    private final Map<String, MessageTemplate> templates = new ConcurrentHashMap<>();
     
     public ActionBarService(EssentialUtils plugin) {
         this.plugin = plugin;
+        this.ticker = plugin.getServer().getGlobalRegionScheduler().runAtFixedRate(
+            plugin,
+            t -> tick(),
+            1L,
+            1L
+        );
     }
     
     /**
@@ -37,28 +80,15 @@ public class ActionBarService {
      */
     public void showTimed(Player player, String message, int durationTicks) {
         if (player == null || !player.isOnline()) return;
-        
-        // Cancel any existing clear task
-        cancelClearTask(player);
-        
-        // Show the message
-        sendActionBar(player, message);
-        
-        // Schedule clear task
-        ScheduledTask task = player.getScheduler().runDelayed(plugin, t -> {
-            // Only clear if no persistent message is set
-            if (!persistentMessages.containsKey(player.getUniqueId())) {
-                clearActionBar(player);
-            } else {
-                // Re-show persistent message
-                sendActionBar(player, persistentMessages.get(player.getUniqueId()));
-            }
-            clearTasks.remove(player.getUniqueId());
-        }, null, durationTicks);
-        
-        if (task != null) {
-            clearTasks.put(player.getUniqueId(), task);
-        }
+        showTimed(player, deserialize(message), durationTicks);
+    }
+    
+    /**
+     * Show an already built message that auto-clears after specified ticks.
+     */
+    public void showTimed(Player player, Component message, int durationTicks) {
+        if (player == null || !player.isOnline()) return;
+        set(player, Channel.TIMED, message, now + Math.max(1, durationTicks));
     }
     
     /**
@@ -67,44 +97,22 @@ public class ActionBarService {
      */
     public void showPersistent(Player player, String message) {
         if (player == null || !player.isOnline()) return;
-        
-        // Cancel existing persistent task if any
-        cancelPersistentTask(player);
-        
-        // Store the message
-        persistentMessages.put(player.getUniqueId(), message);
-        
-        // Show immediately
-        sendActionBar(player, message);
-        
-        // Schedule refresh every 20 ticks (1 second) to keep it visible
-        ScheduledTask task = player.getScheduler().runAtFixedRate(plugin, t -> {
-            String msg = persistentMessages.get(player.getUniqueId());
-            if (msg != null && player.isOnline()) {
-                sendActionBar(player, msg);
-            } else {
-                t.cancel();
-                persistentTasks.remove(player.getUniqueId());
-            }
-        }, null, 20L, 20L);
-        
-        if (task != null) {
-            persistentTasks.put(player.getUniqueId(), task);
-        }
+        showPersistent(player, deserialize(message));
+    }
+    
+    /**
+     * Show an already built message that persists until explicitly cleared.
+     */
+    public void showPersistent(Player player, Component message) {
+        if (player == null || !player.isOnline()) return;
+        set(player, Channel.PERSISTENT, message, Long.MAX_VALUE);
     }
     
     /**
      * Update a persistent message without restarting the refresh loop.
      */
     public void updatePersistent(Player player, String message) {
-        if (player == null || !player.isOnline()) return;
-        
-        if (persistentMessages.containsKey(player.getUniqueId())) {
-            persistentMessages.put(player.getUniqueId(), message);
-            sendActionBar(player, message);
-        } else {
-            showPersistent(player, message);
-        }
+        showPersistent(player, message);
     }
     
     /**
@@ -113,12 +121,9 @@ public class ActionBarService {
     public void clearPersistent(Player player) {
         if (player == null) return;
         
-        persistentMessages.remove(player.getUniqueId());
-        cancelPersistentTask(player);
-        
-        // Clear the actionbar if online
-        if (player.isOnline()) {
-            clearActionBar(player);
+        Bar bar = bars.get(player.getUniqueId());
+        if (bar != null && player.isOnline() && bar.set(Channel.PERSISTENT, null, 0, now)) {
+            dropIfIdle(bar);
         }
     }
     
@@ -126,7 +131,9 @@ public class ActionBarService {
      * Check if player has a persistent message.
      */
     public boolean hasPersistent(Player player) {
-        return player != null && persistentMessages.containsKey(player.getUniqueId());
+        if (player == null) return false;
+        Bar bar = bars.get(player.getUniqueId());
+        return bar != null && bar.has(Channel.PERSISTENT);
     }
     
     /**
@@ -143,35 +150,109 @@ public class ActionBarService {
      */
     public void cleanup(Player player) {
         if (player == null) return;
-        
-        UUID id = player.getUniqueId();
-        persistentMessages.remove(id);
-        cancelClearTask(player);
-        cancelPersistentTask(player);
+        bars.remove(player.getUniqueId());
     }
     
     /**
      * Shutdown all tasks.
      */
     public void shutdown() {
-        clearTasks.values().forEach(ScheduledTask::cancel);
-        clearTasks.clear();
-        persistentTasks.values().forEach(ScheduledTask::cancel);
-        persistentTasks.clear();
-        persistentMessages.clear();
+        if (ticker != null) {
+            ticker.cancel();
+        }
+        bars.clear();
+        synchronized (queue) {
+            queue.clear();
+        }
+    }
+    
+    /**
+     * Set a channel on the player's bar, creating the bar if needed.
+     */
+    private void set(Player player, Channel channel, Component message, long expires) {
+        while (true) {
+            Bar bar = bars.computeIfAbsent(player.getUniqueId(), id -> new Bar(player));
+            if (bar.set(channel, message, expires, now)) {
+                dropIfIdle(bar);
+                return;
+            }
+            // Dropped by the ticker between the lookup and the set; use a fresh one
+            bars.remove(player.getUniqueId(), bar);
+        }
+    }
+    
+    /**
+     * Forget a bar that has nothing to show; it's recreated on the next message.
+     */
+    private void dropIfIdle(Bar bar) {
+        if (bar.retireIfIdle()) {
+            bars.remove(bar.player.getUniqueId(), bar);
+        }
     }
     
-    private void cancelClearTask(Player player) {
-        ScheduledTask existing = clearTasks.remove(player.getUniqueId());
-        if (existing != null) {
-            existing.cancel();
+    private void schedule(Bar bar, long at) {
+        synchronized (queue) {
+            queue.add(new Due(at, bar));
         }
     }
     
-    private void cancelPersistentTask(Player player) {
-        ScheduledTask existing = persistentTasks.remove(player.getUniqueId());
-        if (existing != null) {
-            existing.cancel();
+    /**
+     * Send whatever is due. Global region thread, every tick.
+     */
+    private void tick() {
+        long tick = ++now;
+        
+        while (true) {
+            Due due;
+            synchronized (queue) {
+                due = queue.peek();
+                if (due == null || due.at() > tick) return;
+                queue.poll();
+            }
+            
+            Bar bar = due.bar();
+            // Its due tick moved since this entry was queued; a newer entry covers it
+            if (bar.dueAt != due.at()) continue;
+            
+            if (!bar.player.isOnline()) {
+                bar.retire();
+                bars.remove(bar.player.getUniqueId(), bar);
+                continue;
+            }
+            bar.update(tick);
+            dropIfIdle(bar);
+        }
+    }
+    
+    /**
+     * Compiled template for a format, compiled on first use and reused after.
+     */
+    public MessageTemplate template(String format, String... slotNames) {
+        MessageTemplate template = templates.get(format);
+        if (template != null && template.matches(format, slotNames)) {
+            return template;
+        }
+        
+        // Old formats pile up across config reloads; just start over
+        if (templates.size() >= TEMPLATE_CACHE_SIZE) {
+            templates.clear();
+        }
+        template = MessageTemplate.compile(format, slotNames);
+        templates.put(format, template);
+        return template;
+    }
+    
+    /**
+     * Parse a legacy (&) message, from the cache when it was seen recently.
+     */
+    private Component deserialize(String message) {
+        synchronized (components) {
+            Component component = components.get(message);
+            if (component == null) {
+                component = MessageTemplate.LEGACY.deserialize(message);
+                components.put(message, component);
+            }
+            return component;
         }
     }
     
@@ -179,14 +260,99 @@ public class ActionBarService {
      * Send actionbar using Adventure API.
      */
     private void sendActionBar(Player player, String message) {
-        Component component = LEGACY.deserialize(message);
-        player.sendActionBar(component);
+        player.sendActionBar(deserialize(message));
     }
     
+    private record Due(long at, Bar bar) {}
+    
     /**
-     * Clear the actionbar.
+     * One player's channel stack. Changed from the player's thread, and by the
+     * ticker when it's due.
      */
-    private void clearActionBar(Player player) {
-        player.sendActionBar(Component.empty());
+    private final class Bar {
+        final Player player;
+        final Component[] messages = new Component[Channel.values().length];
+        final long[] expiresAt = new long[Channel.values().length];
+        
+        // What's on screen, and when the ticker next needs to look at this bar
+        Component shown;
+        long refreshAt;
+        volatile long dueAt = Long.MAX_VALUE;
+        
+        // Dropped from bars; a retired bar takes no more messages
+        boolean retired;
+        
+        Bar(Player player) {
+            this.player = player;
+        }
+        
+        synchronized boolean has(Channel channel) {
+            return messages[channel.ordinal()] != null;
+        }
+        
+        /**
+         * Set (or clear, with null) a channel and show the result straight away.
+         * Returns false if the bar was retired and the caller needs a new one.
+         */
+        synchronized boolean set(Channel channel, Component message, long expires, long tick) {
+            if (retired) return false;
+            messages[channel.ordinal()] = message;
+            expiresAt[channel.ordinal()] = expires;
+            update(tick);
+            return true;
+        }
+        
+        /**
+         * Retire the bar if it has no messages and nothing on screen.
+         */
+        synchronized boolean retireIfIdle() {
+            if (retired || shown != null) return false;
+            for (Component message : messages) {
+                if (message != null) return false;
+            }
+            retired = true;
+            return true;
+        }
+        
+        synchronized void retire() {
+            retired = true;
+        }
+        
+        /**
+         * Expire old messages, then send the top one if it changed or needs a refresh.
+         */
+        synchronized void update(long tick) {
+            Component top = null;
+            long nextExpiry = Long.MAX_VALUE;
+            for (int i = messages.length - 1; i >= 0; i--) {
+                if (messages[i] == null) continue;
+                if (expiresAt[i] <= tick) {
+                    messages[i] = null;
+                    continue;
+                }
+                if (top == null) top = messages[i];
+                nextExpiry = Math.min(nextExpiry, expiresAt[i]);
+            }
+            
+            if (top == null) {
+                if (shown != null) {
+                    player.sendActionBar(Component.empty());
+                    shown = null;
+                }
+                dueAt = Long.MAX_VALUE;
+                return;
+            }
+            
+            if (top != shown || tick >= refreshAt) {
+                player.sendActionBar(top);
+                shown = top;
+                refreshAt = tick + REFRESH_TICKS;
+            }
+            long due = Math.min(refreshAt, nextExpiry);
+            if (due != dueAt) {
+                dueAt = due;
+                schedule(this, due);
+            }
+        }
     }
 }
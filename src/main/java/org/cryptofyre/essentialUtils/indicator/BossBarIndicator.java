@@ -1,33 +1,79 @@
 package org.cryptofyre.essentialUtils.indicator;
 
-import org.bukkit.Bukkit;
-import org.bukkit.boss.BarColor;
-import org.bukkit.boss.BarStyle;
-import org.bukkit.boss.BossBar;
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.text.Component;
 import org.bukkit.entity.Player;
 
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Per-player progress boss bar.
+ *
+ * Callers report progress as often as they like; the bar (and its title) only
+ * changes, and so only sends packets, when the whole percentage changes.
+ */
 public class BossBarIndicator {
-    private final Map<UUID, BossBar> bars = new ConcurrentHashMap<>();
-
-    public void showProgress(Player p, String title, double progress) {
-        BossBar bar = bars.computeIfAbsent(p.getUniqueId(), id ->
-                Bukkit.createBossBar(title, BarColor.GREEN, BarStyle.SEGMENTED_10)
-        );
-        bar.setVisible(true);
-        bar.setTitle(title);
-        bar.setProgress(Math.max(0, Math.min(1, progress)));
-        if (!bar.getPlayers().contains(p)) bar.addPlayer(p);
+    private final Map<UUID, Shown> bars = new ConcurrentHashMap<>();
+
+    private static final class Shown {
+        final Player player;
+        final BossBar bar;
+        int percent;
+
+        Shown(Player player, BossBar bar, int percent) {
+            this.player = player;
+            this.bar = bar;
+            this.percent = percent;
+        }
+    }
+
+    /**
+     * Show or update a player's bar. The title is only built when the percentage
+     * has changed since the last call. Call from the player's thread.
+     */
+    public void showProgress(Player p, int done, int total, BossBar.Color color, MessageTemplate title) {
+        int percent = total > 0 ? (int) Math.min(100, Math.max(0, done * 100L / total)) : 0;
+
+        Shown shown = bars.get(p.getUniqueId());
+        if (shown != null && shown.percent == percent) return;
+
+        Component name = title.render(done, total, percent);
+        float progress = percent / 100f;
+
+        if (shown == null) {
+            BossBar bar = BossBar.bossBar(name, progress, color, BossBar.Overlay.NOTCHED_10);
+            bars.put(p.getUniqueId(), new Shown(p, bar, percent));
+            p.showBossBar(bar);
+        } else {
+            shown.percent = percent;
+            shown.bar.name(name);
+            shown.bar.progress(progress);
+        }
     }
 
     public void hide(Player p) {
-        BossBar bar = bars.remove(p.getUniqueId());
-        if (bar != null) {
-            bar.removeAll();
-            bar.setVisible(false);
+        Shown shown = bars.remove(p.getUniqueId());
+        if (shown != null) {
+            p.hideBossBar(shown.bar);
         }
     }
+
+    /**
+     * Hide every bar (plugin disable).
+     */
+    public void hideAll() {
+        for (Shown shown : bars.values()) {
+            shown.player.hideBossBar(shown.bar);
+        }
+        bars.clear();
+    }
+
+    /**
+     * Forget a player's bar without sending anything (e.g. they disconnected).
+     */
+    public void forget(UUID id) {
+        bars.remove(id);
+    }
 }
@@ -0,0 +1,184 @@
+package org.cryptofyre.essentialUtils.indicator;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.Style;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A message format with {placeholder} slots, parsed once.
+ *
+ * The format uses & colour codes like every other configurable message. Compiling
+ * splits it into constant components (already deserialized) and slots that carry
+ * the style in effect where they appear, so rendering just appends components:
+ * no colour code parsing and no string replacing per message.
+ *
+ * Slots are given by name at compile time and filled by position when rendering.
+ * A {name} that isn't one of the slot names is kept as literal text.
+ */
+public final class MessageTemplate {
+    static final LegacyComponentSerializer LEGACY = LegacyComponentSerializer.builder()
+        .character('&')
+        .hexColors()
+        .useUnusualXRepeatedCharacterHexFormat()
+        .build();
+
+    private final String format;
+    private final String[] slotNames;
+    private final Segment[] segments;
+
+    private MessageTemplate(String format, String[] slotNames, Segment[] segments) {
+        this.format = format;
+        this.slotNames = slotNames;
+        this.segments = segments;
+    }
+
+    /**
+     * Compile a format. values passed to render() follow the order of slotNames.
+     */
+    public static MessageTemplate compile(String format, String... slotNames) {
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        String activeCodes = ""; // Codes in effect where the current literal started
+        String codes = "";       // Codes in effect at the current position
+
+        int i = 0;
+        while (i < format.length()) {
+            char c = format.charAt(i);
+
+            if (c == '&' && i + 1 < format.length()) {
+                int length = codeLength(format, i);
+                if (length > 0) {
+                    String code = format.substring(i, i + length);
+                    char type = Character.toLowerCase(format.charAt(i + 1));
+                    if (type == 'r') {
+                        codes = "";
+                    } else if (type >= 'k' && type <= 'o') {
+                        codes += code;
+                    } else {
+                        codes = code; // A colour resets formatting
+                    }
+                    literal.append(code);
+                    i += length;
+                    continue;
+                }
+            }
+
+            if (c == '{') {
+                int end = format.indexOf('}', i + 1);
+                int slot = end < 0 ? -1 : indexOf(slotNames, format.substring(i + 1, end));
+                if (slot >= 0) {
+                    if (!literal.isEmpty()) {
+                        segments.add(Segment.constant(LEGACY.deserialize(activeCodes + literal)));
+                        literal.setLength(0);
+                    }
+                    segments.add(Segment.slot(slot, styleOf(codes)));
+                    activeCodes = codes;
+                    i = end + 1;
+                    continue;
+                }
+            }
+
+            literal.append(c);
+            i++;
+        }
+        if (!literal.isEmpty()) {
+            segments.add(Segment.constant(LEGACY.deserialize(activeCodes + literal)));
+        }
+
+        return new MessageTemplate(format, slotNames.clone(), segments.toArray(new Segment[0]));
+    }
+
+    /**
+     * Build the message. values are converted with String.valueOf.
+     */
+    public Component render(Object... values) {
+        TextComponent.Builder builder = Component.text();
+        for (Segment segment : segments) {
+            if (segment.constant != null) {
+                builder.append(segment.constant);
+            } else {
+                Object value = segment.slot < values.length ? values[segment.slot] : null;
+                builder.append(Component.text(String.valueOf(value), segment.style));
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * True if this template was compiled from the given format and slot names.
+     */
+    public boolean matches(String format, String... slotNames) {
+        return this.format.equals(format) && Arrays.equals(this.slotNames, slotNames);
+    }
+
+    public String format() {
+        return format;
+    }
+
+    /**
+     * Length of the colour code at i (&a, &#rrggbb, &x&r&r&g&g&b&b), or 0 if there isn't one.
+     */
+    private static int codeLength(String s, int i) {
+        char type = Character.toLowerCase(s.charAt(i + 1));
+        if (type == '#') {
+            return i + 8 <= s.length() && isHex(s, i + 2, 6, 1) ? 8 : 0;
+        }
+        if (type == 'x') {
+            return i + 14 <= s.length() && isRepeatedHex(s, i + 2) ? 14 : 0;
+        }
+        return (type >= '0' && type <= '9') || (type >= 'a' && type <= 'f')
+            || (type >= 'k' && type <= 'o') || type == 'r' ? 2 : 0;
+    }
+
+    private static boolean isRepeatedHex(String s, int from) {
+        for (int j = 0; j < 6; j++) {
+            if (s.charAt(from + j * 2) != '&') return false;
+        }
+        return isHex(s, from + 1, 6, 2);
+    }
+
+    private static boolean isHex(String s, int from, int count, int step) {
+        for (int j = 0; j < count; j++) {
+            if (Character.digit(s.charAt(from + j * step), 16) < 0) return false;
+        }
+        return true;
+    }
+
+    private static int indexOf(String[] names, String name) {
+        for (int j = 0; j < names.length; j++) {
+            if (names[j].equals(name)) return j;
+        }
+        return -1;
+    }
+
+    /**
+     * Style produced by a run of colour codes, worked out by deserializing a probe character.
+     */
+    private static Style styleOf(String codes) {
+        if (codes.isEmpty()) return Style.empty();
+
+        Component probe = LEGACY.deserialize(codes + "?");
+        Style style = probe.style();
+        // The serializer may wrap the text in an empty parent
+        while (probe instanceof TextComponent text && text.content().isEmpty() && probe.children().size() == 1) {
+            probe = probe.children().get(0);
+            style = probe.style().merge(style, Style.Merge.Strategy.IF_ABSENT_ON_TARGET);
+        }
+        return style;
+    }
+
+    private record Segment(Component constant, int slot, Style style) {
+        static Segment constant(Component component) {
+            return new Segment(component, -1, null);
+        }
+
+        static Segment slot(int slot, Style style) {
+            return new Segment(null, slot, style);
+        }
+    }
+}
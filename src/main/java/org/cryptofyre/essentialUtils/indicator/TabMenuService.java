@@ -6,22 +6,69 @@ import net.kyori.adventure.text.format.TextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import org.cryptofyre.essentialUtils.EssentialUtils;
 import org.cryptofyre.essentialUtils.config.PluginConfig;
+import org.cryptofyre.essentialUtils.metrics.ServerMetricsSampler;
+import org.cryptofyre.essentialUtils.util.Folia;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Tab Menu Service - Displays a stylized player list header and footer.
  * Features an animated logo and server info. Highly configurable.
- * Folia-compatible using global region scheduler.
+ * Folia-compatible: each player is updated by a task on their own entity
+ * scheduler, staggered across the update interval, so region threads handle
+ * their own players and no single tick updates everyone.
+ * 
+ * The header only depends on the animation frame, so every frame (and every
+ * decorative line) is built once on enable/reload and shared by all players.
+ * Footers are built from quantised inputs, shared between players with the same
+ * inputs, and only sent when a player's header frame or footer inputs change.
+ * 
+ * On Folia the TPS shown is that of the player's own region, read on its thread
+ * by the player's task, and the slowest region's TPS is shown alongside it.
+ * 
+ * Under load (high MSPT or many players) the animation stops on a static frame
+ * and players are updated only every few intervals, until there's headroom again.
  */
 public class TabMenuService {
     private final EssentialUtils plugin;
     
-    private ScheduledTask updateTask;
-    private int animationFrame = 0;
+    private volatile ScheduledTask updateTask;
+    
+    // Per-player update tasks (entity scheduler)
+    private final Map<UUID, ScheduledTask> playerTasks = new ConcurrentHashMap<>();
+    
+    // Prebuilt per animation frame; replaced as a whole by rebuildFrames()
+    private volatile Component[] headerFrames = new Component[0];
+    private volatile Component[] lineFrames = new Component[0];
+    
+    // Footer quantisation steps
+    private static final int PING_STEP_MS = 10;
+    private static final long MEMORY_STEP_MB = 10;
+    
+    // Server-wide footer inputs, sampled once per update interval
+    private volatile ServerState serverState;
+    
+    // Footers built this interval, shared by players with identical inputs
+    private final Map<FooterState, Component> footers = new ConcurrentHashMap<>();
+    
+    // What each player was last sent
+    private final Map<UUID, Sent> lastSent = new ConcurrentHashMap<>();
+    
+    // Load-adaptive mode: static frame, updates every slowFactor intervals
+    private volatile boolean slowed = false;
+    
+    // Leave slowed mode only once load is this far below the thresholds
+    private static final double RECOVER_FRACTION = 0.8;
+    
+    private record Sent(Component header, FooterState footer) {
+    }
     
     /** Always get fresh config to support hot-reloading */
     private PluginConfig cfg() {
@@ -40,6 +87,9 @@ public class TabMenuService {
         TextColor.color(0xFF6B6B), // Back to coral
     };
     
+    // One full animation cycle (logo repeats every 8 frames, lines every 16)
+    private static final int FRAME_COUNT = GRADIENT_COLORS.length * 8;
+    
     // Theme colors
     private static final TextColor ACCENT_GOLD = TextColor.color(0xF4A460);
     private static final TextColor ACCENT_GREEN = TextColor.color(0x28A745);
@@ -53,6 +103,8 @@ public class TabMenuService {
     
     public TabMenuService(EssentialUtils plugin) {
         this.plugin = plugin;
+        rebuildFrames();
+        serverState = sampleServer();
         
         if (cfg().tabMenuEnabled()) {
             startUpdateLoop();
@@ -60,57 +112,192 @@ public class TabMenuService {
     }
     
     /**
-     * Start the tab menu update loop.
+     * Start the tab menu update loop: a global task samples server-wide values,
+     * and every online player gets their own update task.
      */
     private void startUpdateLoop() {
         int updateInterval = cfg().tabMenuUpdateInterval();
         
         updateTask = plugin.getServer().getGlobalRegionScheduler().runAtFixedRate(
             plugin,
-            task -> updateAllPlayers(),
+            task -> sampleCycle(),
             20L,
             updateInterval
         );
+        
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            schedulePlayer(player);
+        }
     }
     
     /**
-     * Update tab menu for all online players.
+     * Apply a config reload: rebuild the frames and restart the update tasks, so a
+     * changed updateInterval (or enabling/disabling the menu) takes effect.
      */
-    private void updateAllPlayers() {
-        animationFrame = (animationFrame + 1) % (GRADIENT_COLORS.length * 8);
+    public void reload() {
+        rebuildFrames();
+        stopUpdateLoop();
         
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            updatePlayer(player);
+        if (cfg().tabMenuEnabled()) {
+            serverState = sampleServer();
+            startUpdateLoop();
+        } else {
+            clearAll();
+        }
+    }
+    
+    /**
+     * Rebuild the cached header and decorative line frames from the current config.
+     */
+    private void rebuildFrames() {
+        Component[] lines = new Component[FRAME_COUNT];
+        for (int frame = 0; frame < FRAME_COUNT; frame++) {
+            lines[frame] = buildDecorativeLine(frame);
+        }
+        Component[] headers = new Component[FRAME_COUNT];
+        for (int frame = 0; frame < FRAME_COUNT; frame++) {
+            headers[frame] = buildHeader(frame, lines[frame]);
+            // Reuse an identical earlier frame (e.g. no logo and no decorations), so
+            // unchanged headers compare equal by reference and aren't resent
+            for (int earlier = 0; earlier < frame; earlier++) {
+                if (headers[earlier].equals(headers[frame])) {
+                    headers[frame] = headers[earlier];
+                    break;
+                }
+            }
+        }
+        
+        lineFrames = lines;
+        headerFrames = headers;
+        
+        // Anything already sent was built from the old config
+        footers.clear();
+        lastSent.clear();
+    }
+    
+    /**
+     * Sample server-wide footer values for the next interval. Global region thread.
+     */
+    private void sampleCycle() {
+        serverState = sampleServer();
+        updateLoad(plugin.metrics().latest());
+        footers.clear();
+    }
+    
+    /**
+     * Enter or leave slowed mode. Thresholds have hysteresis so the menu doesn't
+     * flap between modes when load hovers around them.
+     */
+    private void updateLoad(ServerMetricsSampler.Snapshot metrics) {
+        PluginConfig cfg = cfg();
+        if (!cfg.tabMenuAdaptiveEnabled()) {
+            slowed = false;
+            return;
+        }
+        
+        double msptThreshold = cfg.tabMenuAdaptiveMsptThreshold();
+        int playerThreshold = cfg.tabMenuAdaptivePlayerThreshold();
+        boolean wasSlowed = slowed;
+        
+        boolean overPlayers = playerThreshold > 0 && metrics.players() > playerThreshold;
+        boolean underPlayers = playerThreshold <= 0 || metrics.players() <= playerThreshold * RECOVER_FRACTION;
+        
+        // Folia: estimated from the slowest region players are in
+        double mspt = metrics.loadMspt();
+        boolean overMspt = msptThreshold > 0 && mspt > msptThreshold;
+        boolean underMspt = msptThreshold <= 0 || Double.isNaN(mspt) || mspt < msptThreshold * RECOVER_FRACTION;
+        
+        if (!wasSlowed && (overPlayers || overMspt)) {
+            slowed = true;
+        } else if (wasSlowed && underPlayers && underMspt) {
+            slowed = false;
+        }
+    }
+    
+    /**
+     * True while the tab menu is slowed down because of server load.
+     */
+    public boolean isSlowed() {
+        return slowed;
+    }
+    
+    /**
+     * Start a player's update task on their entity scheduler. The first run is offset
+     * by a hash of their UUID, spreading players evenly over the interval.
+     */
+    private void schedulePlayer(Player player) {
+        int interval = Math.max(1, cfg().tabMenuUpdateInterval());
+        long offset = 1 + Math.floorMod(player.getUniqueId().hashCode(), interval);
+        UUID id = player.getUniqueId();
+        int[] runs = {0}; // Only touched by this player's task
+        AtomicReference<ScheduledTask> self = new AtomicReference<>();
+        
+        ScheduledTask task = player.getScheduler().runAtFixedRate(
+            plugin,
+            t -> {
+                // Under load, only every slowFactor-th run does anything
+                if (slowed && runs[0]++ % Math.max(1, cfg().tabMenuAdaptiveSlowFactor()) != 0) return;
+                updatePlayer(player);
+            },
+            () -> {
+                // Player left / was removed; only forget this task, not one from a rejoin
+                ScheduledTask retired = self.get();
+                if (retired != null) playerTasks.remove(id, retired);
+            },
+            offset,
+            interval
+        );
+        if (task != null) {
+            self.set(task);
+            ScheduledTask previous = playerTasks.put(id, task);
+            if (previous != null) previous.cancel();
         }
     }
     
     /**
-     * Update tab menu for a specific player.
+     * Current animation frame, from wall-clock time so players updated at
+     * different ticks still animate in step. Static while slowed.
+     */
+    private int currentFrame() {
+        if (slowed) return 0;
+        long frameMs = Math.max(1, cfg().tabMenuUpdateInterval()) * 50L;
+        return (int) ((System.currentTimeMillis() / frameMs) % FRAME_COUNT);
+    }
+    
+    /**
+     * Update tab menu for a specific player. Runs on the player's own thread.
      */
     public void updatePlayer(Player player) {
         if (!cfg().tabMenuEnabled()) return;
         
-        Component header = buildHeader();
-        Component footer = buildFooter(player);
+        int frame = currentFrame();
+        Component header = headerFrames[frame];
+        FooterState state = footerState(player, frame);
+        
+        // Nothing visible changed since the last send
+        Sent last = lastSent.get(player.getUniqueId());
+        if (last != null && last.header() == header && last.footer().equals(state)) return;
         
+        Component footer = footers.computeIfAbsent(state, this::buildFooter);
+        lastSent.put(player.getUniqueId(), new Sent(header, state));
         player.sendPlayerListHeaderAndFooter(header, footer);
     }
     
     /**
-     * Build the header with animated logo.
+     * Build the header with animated logo for one animation frame.
      */
-    private Component buildHeader() {
+    private Component buildHeader(int frame, Component line) {
         Component header = Component.empty();
         
         // Top decoration
         if (cfg().tabMenuShowDecorations()) {
             header = header.append(Component.newline());
-            header = header.append(buildDecorativeLine());
+            header = header.append(line);
         }
         header = header.append(Component.newline());
         
         // Animated logo
-        header = header.append(buildAnimatedLogo());
+        header = header.append(buildAnimatedLogo(frame));
         header = header.append(Component.newline());
         
         // Optional tagline
@@ -141,7 +328,7 @@ public class TabMenuService {
         
         // Bottom decoration
         if (cfg().tabMenuShowDecorations()) {
-            header = header.append(buildDecorativeLine());
+            header = header.append(line);
             header = header.append(Component.newline());
         }
         
@@ -151,7 +338,7 @@ public class TabMenuService {
     /**
      * Build the animated logo with flowing gradient.
      */
-    private Component buildAnimatedLogo() {
+    private Component buildAnimatedLogo(int frame) {
         String logoText = cfg().tabMenuLogoText();
         if (logoText.isEmpty()) return Component.empty();
         
@@ -161,7 +348,7 @@ public class TabMenuService {
             char c = logoText.charAt(i);
             
             // Calculate color based on position and animation frame
-            float phase = (animationFrame / 8.0f + i / (float) logoText.length()) % 1.0f;
+            float phase = (frame / 8.0f + i / (float) logoText.length()) % 1.0f;
             TextColor color = interpolateGradient(phase);
             
             logo = logo.append(
@@ -195,14 +382,14 @@ public class TabMenuService {
     /**
      * Build decorative line separator.
      */
-    private Component buildDecorativeLine() {
+    private Component buildDecorativeLine(int frame) {
         String style = cfg().tabMenuDecorationStyle();
         int length = cfg().tabMenuDecorationLength();
         
         Component line = Component.empty();
         
         for (int i = 0; i < length; i++) {
-            float phase = (animationFrame / 16.0f + i / (float) length) % 1.0f;
+            float phase = (frame / 16.0f + i / (float) length) % 1.0f;
             int brightness = (int) (60 + Math.sin(phase * Math.PI * 2) * 20);
             TextColor color = TextColor.color(brightness + 40, brightness + 50, brightness + 60);
             
@@ -212,39 +399,125 @@ public class TabMenuService {
         return line;
     }
     
+    /**
+     * Everything the footer shows, quantised so jitter below the display precision
+     * doesn't count as a change. Values that aren't shown are left at 0; tpsTenths
+     * is -1 when there's no TPS to show (Folia, outside any reported region).
+     */
+    private record FooterState(int lineFrame, int online, int maxPlayers, int ping, int tpsTenths,
+                               int worstTpsTenths, long usedMB, long maxMB, int claimed, int maxChunks) {
+    }
+    
+    /**
+     * Server-wide footer values, sampled once per update cycle. tpsTenths is -1 when
+     * there's no global TPS (Folia), worstTpsTenths when there's no region TPS to show.
+     */
+    private record ServerState(int online, int maxPlayers, int tpsTenths, int worstTpsTenths,
+                               long usedMB, long maxMB) {
+    }
+    
+    /**
+     * Server-wide footer values, taken from the shared metrics snapshot.
+     */
+    private ServerState sampleServer() {
+        PluginConfig cfg = cfg();
+        ServerMetricsSampler.Snapshot metrics = plugin.metrics().latest();
+        
+        int online = 0;
+        int maxPlayers = 0;
+        if (cfg.tabMenuShowPlayers()) {
+            online = metrics.players();
+            maxPlayers = metrics.maxPlayers();
+        }
+        
+        int tpsTenths = 0;
+        if (cfg.tabMenuShowTps()) {
+            tpsTenths = Double.isNaN(metrics.tps()) ? -1 : (int) Math.round(metrics.tps() * 10);
+        }
+        int worstTpsTenths = -1;
+        if (cfg.tabMenuShowTps() && cfg.tabMenuShowWorstRegion() && metrics.worstRegion() != null) {
+            worstTpsTenths = (int) Math.round(metrics.worstRegion().tps() * 10);
+        }
+        
+        long usedMB = 0;
+        long maxMB = 0;
+        if (cfg.tabMenuShowMemory()) {
+            usedMB = metrics.heapUsedMB() / MEMORY_STEP_MB * MEMORY_STEP_MB;
+            maxMB = metrics.heapMaxMB();
+        }
+        
+        return new ServerState(online, maxPlayers, tpsTenths, worstTpsTenths, usedMB, maxMB);
+    }
+    
+    /**
+     * Footer inputs for one player at one animation frame.
+     */
+    private FooterState footerState(Player player, int frame) {
+        PluginConfig cfg = cfg();
+        ServerState server = serverState;
+        
+        // Decorative lines repeat every 16 frames
+        int lineFrame = cfg.tabMenuShowDecorations() ? frame % 16 : 0;
+        int ping = cfg.tabMenuShowPing() ? player.getPing() / PING_STEP_MS * PING_STEP_MS : 0;
+        
+        // Folia: the player's own region, read here on its thread. Always reported, since
+        // load mode and the claim cost budget use it whether or not TPS is shown
+        int tpsTenths = server.tpsTenths();
+        int worstTpsTenths = -1;
+        if (Folia.isFolia()) {
+            ServerMetricsSampler metrics = plugin.metrics();
+            double regionTps = metrics.regionTps(player.getLocation());
+            metrics.reportRegion(player.getUniqueId(), player.getLocation(), regionTps);
+            if (cfg.tabMenuShowTps() && !Double.isNaN(regionTps)) {
+                tpsTenths = (int) Math.round(regionTps * 10);
+            }
+            // Only worth showing when somewhere else is slower
+            if (server.worstTpsTenths() >= 0 && server.worstTpsTenths() < tpsTenths) {
+                worstTpsTenths = server.worstTpsTenths();
+            }
+        }
+        
+        int claimed = 0;
+        int maxChunks = 0;
+        var chunkLoader = plugin.chunkLoader();
+        if (cfg.chunkLoaderEnabled() && cfg.tabMenuShowChunkInfo() && chunkLoader != null) {
+            claimed = chunkLoader.getClaimedCount(player);
+            maxChunks = chunkLoader.getMaxChunks();
+        }
+        
+        return new FooterState(lineFrame, server.online(), server.maxPlayers(), ping, tpsTenths,
+            worstTpsTenths, server.usedMB(), server.maxMB(), claimed, maxChunks);
+    }
+    
     /**
      * Build the footer with player stats.
      */
-    private Component buildFooter(Player player) {
+    private Component buildFooter(FooterState state) {
         Component footer = Component.empty();
+        Component line = lineFrames[state.lineFrame()];
         boolean compact = cfg().tabMenuCompactMode();
         
         // Top decoration
         if (cfg().tabMenuShowDecorations()) {
             footer = footer.append(Component.newline());
-            footer = footer.append(buildDecorativeLine());
+            footer = footer.append(line);
         }
         footer = footer.append(Component.newline());
         
         if (compact) {
-            footer = footer.append(buildCompactStats(player));
+            footer = footer.append(buildCompactStats(state));
         } else {
-            footer = footer.append(buildExpandedStats(player));
+            footer = footer.append(buildExpandedStats(state));
         }
         
         // Chunk info
-        if (cfg().chunkLoaderEnabled() && cfg().tabMenuShowChunkInfo()) {
-            var chunkLoader = plugin.chunkLoader();
-            if (chunkLoader != null) {
-                int claimed = chunkLoader.getClaimedCount(player);
-                int maxChunks = chunkLoader.getMaxChunks();
-                footer = footer.append(
-                    Component.text("📦 ", ACCENT_GOLD)
-                        .append(Component.text(claimed, ACCENT_GREEN).decorate(TextDecoration.BOLD))
-                        .append(Component.text("/" + maxChunks, ACCENT_DARK))
-                );
-                footer = footer.append(Component.newline());
-            }
+        if (state.maxChunks() > 0) {
+            footer = footer.append(
+                Component.text("📦 ", ACCENT_GOLD)
+                    .append(Component.text(state.claimed(), ACCENT_GREEN).decorate(TextDecoration.BOLD))
+                    .append(Component.text("/" + state.maxChunks(), ACCENT_DARK))
+            );
+            footer = footer.append(Component.newline());
         }
         
         // Footer tagline
@@ -258,7 +531,7 @@ public class TabMenuService {
         
         // Bottom decoration
         if (cfg().tabMenuShowDecorations()) {
-            footer = footer.append(buildDecorativeLine());
+            footer = footer.append(line);
             footer = footer.append(Component.newline());
         }
         
@@ -268,23 +541,21 @@ public class TabMenuService {
     /**
      * Build compact stats (single line).
      */
-    private Component buildCompactStats(Player player) {
+    private Component buildCompactStats(FooterState state) {
         List<Component> parts = new ArrayList<>();
         
         // Players
         if (cfg().tabMenuShowPlayers()) {
-            int online = Bukkit.getOnlinePlayers().size();
-            int max = Bukkit.getMaxPlayers();
             parts.add(
                 Component.text("👥 ", ACCENT_GREEN)
-                    .append(Component.text(online, ACCENT_GOLD).decorate(TextDecoration.BOLD))
-                    .append(Component.text("/" + max, ACCENT_DARK))
+                    .append(Component.text(state.online(), ACCENT_GOLD).decorate(TextDecoration.BOLD))
+                    .append(Component.text("/" + state.maxPlayers(), ACCENT_DARK))
             );
         }
         
         // Ping
         if (cfg().tabMenuShowPing()) {
-            int ping = player.getPing();
+            int ping = state.ping();
             TextColor pingColor = ping < 50 ? STATUS_GOOD : (ping < 150 ? STATUS_MED : STATUS_BAD);
             parts.add(
                 Component.text("📶 ", pingColor)
@@ -294,24 +565,27 @@ public class TabMenuService {
         
         // TPS
         if (cfg().tabMenuShowTps()) {
-            double tps = getTPS();
-            TextColor tpsColor = tps >= 19.0 ? STATUS_GOOD : (tps >= 15.0 ? STATUS_MED : STATUS_BAD);
-            parts.add(
-                Component.text("⚡ ", tpsColor)
-                    .append(Component.text(String.format("%.0f", tps), tpsColor).decorate(TextDecoration.BOLD))
-            );
+            double tps = state.tpsTenths() / 10.0;
+            TextColor tpsColor = state.tpsTenths() < 0 ? ACCENT_DARK : tpsColor(tps);
+            String tpsText = state.tpsTenths() < 0 ? "n/a" : String.format("%.0f", tps);
+            Component part = Component.text("⚡ ", tpsColor)
+                .append(Component.text(tpsText, tpsColor).decorate(TextDecoration.BOLD));
+            if (state.worstTpsTenths() >= 0) {
+                double worst = state.worstTpsTenths() / 10.0;
+                part = part.append(Component.text(" (", ACCENT_DARK))
+                    .append(Component.text(String.format("%.0f", worst), tpsColor(worst)))
+                    .append(Component.text(")", ACCENT_DARK));
+            }
+            parts.add(part);
         }
         
         // Memory
         if (cfg().tabMenuShowMemory()) {
-            Runtime runtime = Runtime.getRuntime();
-            long usedMB = (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024);
-            long maxMB = runtime.maxMemory() / (1024 * 1024);
-            double memPercent = (double) usedMB / maxMB;
+            double memPercent = (double) state.usedMB() / state.maxMB();
             TextColor memColor = memPercent < 0.7 ? STATUS_GOOD : (memPercent < 0.9 ? STATUS_MED : STATUS_BAD);
             parts.add(
                 Component.text("💾 ", memColor)
-                    .append(Component.text(usedMB + "MB", memColor).decorate(TextDecoration.BOLD))
+                    .append(Component.text(state.usedMB() + "MB", memColor).decorate(TextDecoration.BOLD))
             );
         }
         
@@ -331,25 +605,23 @@ public class TabMenuService {
     /**
      * Build expanded stats (multiple lines).
      */
-    private Component buildExpandedStats(Player player) {
+    private Component buildExpandedStats(FooterState state) {
         Component stats = Component.empty();
         
         // Players
         if (cfg().tabMenuShowPlayers()) {
-            int online = Bukkit.getOnlinePlayers().size();
-            int max = Bukkit.getMaxPlayers();
             stats = stats.append(
                 Component.text("👥 ", ACCENT_GREEN)
                     .append(Component.text("Players: ", ACCENT_LIGHT))
-                    .append(Component.text(online, ACCENT_GOLD).decorate(TextDecoration.BOLD))
-                    .append(Component.text("/" + max, ACCENT_DARK))
+                    .append(Component.text(state.online(), ACCENT_GOLD).decorate(TextDecoration.BOLD))
+                    .append(Component.text("/" + state.maxPlayers(), ACCENT_DARK))
             );
             stats = stats.append(Component.newline());
         }
         
         // Ping
         if (cfg().tabMenuShowPing()) {
-            int ping = player.getPing();
+            int ping = state.ping();
             TextColor pingColor = ping < 50 ? STATUS_GOOD : (ping < 150 ? STATUS_MED : STATUS_BAD);
             stats = stats.append(
                 Component.text("📶 ", pingColor)
@@ -361,28 +633,36 @@ public class TabMenuService {
         
         // TPS
         if (cfg().tabMenuShowTps()) {
-            double tps = getTPS();
-            TextColor tpsColor = tps >= 19.0 ? STATUS_GOOD : (tps >= 15.0 ? STATUS_MED : STATUS_BAD);
+            double tps = state.tpsTenths() / 10.0;
+            TextColor tpsColor = state.tpsTenths() < 0 ? ACCENT_DARK : tpsColor(tps);
+            String tpsText = state.tpsTenths() < 0 ? "n/a" : String.format("%.1f", tps);
             stats = stats.append(
                 Component.text("⚡ ", tpsColor)
                     .append(Component.text("TPS: ", ACCENT_LIGHT))
-                    .append(Component.text(String.format("%.1f", tps), tpsColor).decorate(TextDecoration.BOLD))
+                    .append(Component.text(tpsText, tpsColor).decorate(TextDecoration.BOLD))
             );
             stats = stats.append(Component.newline());
+            
+            if (state.worstTpsTenths() >= 0) {
+                double worst = state.worstTpsTenths() / 10.0;
+                stats = stats.append(
+                    Component.text("⚠ ", tpsColor(worst))
+                        .append(Component.text("Slowest region: ", ACCENT_LIGHT))
+                        .append(Component.text(String.format("%.1f", worst), tpsColor(worst)).decorate(TextDecoration.BOLD))
+                );
+                stats = stats.append(Component.newline());
+            }
         }
         
         // Memory
         if (cfg().tabMenuShowMemory()) {
-            Runtime runtime = Runtime.getRuntime();
-            long usedMB = (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024);
-            long maxMB = runtime.maxMemory() / (1024 * 1024);
-            double memPercent = (double) usedMB / maxMB;
+            double memPercent = (double) state.usedMB() / state.maxMB();
             TextColor memColor = memPercent < 0.7 ? STATUS_GOOD : (memPercent < 0.9 ? STATUS_MED : STATUS_BAD);
             stats = stats.append(
                 Component.text("💾 ", memColor)
                     .append(Component.text("Memory: ", ACCENT_LIGHT))
-                    .append(Component.text(usedMB + "MB", memColor).decorate(TextDecoration.BOLD))
-                    .append(Component.text("/" + maxMB + "MB", ACCENT_DARK))
+                    .append(Component.text(state.usedMB() + "MB", memColor).decorate(TextDecoration.BOLD))
+                    .append(Component.text("/" + state.maxMB() + "MB", ACCENT_DARK))
             );
             stats = stats.append(Component.newline());
         }
@@ -390,37 +670,49 @@ public class TabMenuService {
         return stats;
     }
     
+    private static TextColor tpsColor(double tps) {
+        return tps >= 19.0 ? STATUS_GOOD : (tps >= 15.0 ? STATUS_MED : STATUS_BAD);
+    }
+    
     /**
-     * Get current server TPS.
+     * Called when a player joins.
      */
-    private double getTPS() {
-        try {
-            double[] tps = Bukkit.getTPS();
-            return Math.min(20.0, tps[0]);
-        } catch (Exception e) {
-            return 20.0;
+    public void onPlayerJoin(Player player) {
+        if (cfg().tabMenuEnabled() && updateTask != null) {
+            schedulePlayer(player);
         }
     }
     
     /**
-     * Called when a player joins.
+     * Called when a player quits.
      */
-    public void onPlayerJoin(Player player) {
-        if (cfg().tabMenuEnabled()) {
-            player.getScheduler().runDelayed(plugin, task -> {
-                updatePlayer(player);
-            }, null, 5L);
+    public void onPlayerQuit(Player player) {
+        ScheduledTask task = playerTasks.remove(player.getUniqueId());
+        if (task != null) {
+            task.cancel();
         }
+        lastSent.remove(player.getUniqueId());
+        plugin.metrics().forget(player.getUniqueId());
     }
     
     /**
      * Shutdown the service.
      */
     public void shutdown() {
+        stopUpdateLoop();
+        clearAll();
+    }
+    
+    private void stopUpdateLoop() {
         if (updateTask != null) {
             updateTask.cancel();
+            updateTask = null;
         }
-        
+        playerTasks.values().forEach(ScheduledTask::cancel);
+        playerTasks.clear();
+    }
+    
+    private void clearAll() {
         for (Player player : Bukkit.getOnlinePlayers()) {
             player.sendPlayerListHeaderAndFooter(Component.empty(), Component.empty());
         }
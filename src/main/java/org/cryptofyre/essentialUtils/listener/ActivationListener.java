@@ -4,9 +4,11 @@ import org.cryptofyre.essentialUtils.EssentialUtils;
 import org.cryptofyre.essentialUtils.config.PluginConfig;
 import org.cryptofyre.essentialUtils.features.chunkloader.ChunkLoaderFeature;
 import org.cryptofyre.essentialUtils.features.farm.AutoFarmFeature;
+import org.cryptofyre.essentialUtils.features.farm.CropIndex;
 import org.cryptofyre.essentialUtils.features.tree.TreeAssistFeature;
 import org.cryptofyre.essentialUtils.features.vein.VeinMineFeature;
 import org.cryptofyre.essentialUtils.indicator.ActionBarService;
+import org.cryptofyre.essentialUtils.indicator.MessageTemplate;
 import org.cryptofyre.essentialUtils.indicator.TabMenuService;
 import org.cryptofyre.essentialUtils.state.PlayerState;
 import org.cryptofyre.essentialUtils.state.StateManager;
@@ -52,7 +54,8 @@ public class ActivationListener implements Listener {
 
     public ActivationListener(EssentialUtils plugin, PluginConfig cfg, StateManager states, 
                               WorkService work, ActionBarService actionBar,
-                              ChunkLoaderFeature chunkLoader, TabMenuService tabMenu) {
+                              ChunkLoaderFeature chunkLoader, TabMenuService tabMenu,
+                              CropIndex cropIndex) {
         this.plugin = plugin;
         this.cfg = cfg;
         this.states = states;
@@ -63,7 +66,7 @@ public class ActivationListener implements Listener {
 
         this.tree = new TreeAssistFeature(cfg);
         this.vein = new VeinMineFeature(cfg);
-        this.farm = new AutoFarmFeature(cfg);
+        this.farm = new AutoFarmFeature(cfg, cropIndex);
     }
 
     // ==================== TOOL CHECKS ====================
@@ -91,6 +94,11 @@ public class ActivationListener implements Listener {
             tabMenu.onPlayerJoin(p);
         }
         
+        // Owner back - restores claims suspended by their load policy
+        if (chunkLoader != null) {
+            chunkLoader.updatePresence(p.getUniqueId(), true);
+        }
+        
         // Notify admins about available updates
         if (plugin.updateChecker() != null) {
             // Small delay to ensure player is fully joined
@@ -312,9 +320,18 @@ public class ActivationListener implements Listener {
         
         states.set(p, PlayerState.ACTIVE);
         
-        // Queue all crops
+        // Column crops collect their drops and spill them once at the origin
+        if (AutoFarmFeature.isColumnCrop(origin.getType())) {
+            states.startFarmHarvest(p, origin.getLocation());
+        }
+        
+        // Queue all crops (column crops are queued by their base block)
         for (Block crop : targets) {
-            work.queue(p).add(WorkItem.breakCrop(p, crop));
+            if (AutoFarmFeature.isColumnCrop(crop.getType())) {
+                work.queue(p).add(WorkItem.harvestColumn(p, crop));
+            } else {
+                work.queue(p).add(WorkItem.breakCrop(p, crop));
+            }
         }
         
         work.ensureLoop(p);
@@ -334,12 +351,12 @@ public class ActivationListener implements Listener {
             if (result.isSuccess()) {
                 int current = chunkLoader.getClaimedCount(p);
                 int max = chunkLoader.getMaxChunks();
-                String msg = cfg.chunkLoaderClaimMessage()
-                    .replace("{current}", String.valueOf(current))
-                    .replace("{max}", String.valueOf(max));
-                actionBar.showTimed(p, msg, 60);
-            } else if (result == ChunkLoaderFeature.ClaimResult.AT_LIMIT) {
-                // Only notify if they hit the limit (don't spam for already claimed)
+                MessageTemplate claimed = actionBar.template(cfg.chunkLoaderClaimMessage(), "current", "max");
+                actionBar.showTimed(p, claimed.render(current, max), 60);
+            } else if (result == ChunkLoaderFeature.ClaimResult.AT_LIMIT
+                    || result == ChunkLoaderFeature.ClaimResult.LOADING
+                    || result == ChunkLoaderFeature.ClaimResult.STORE_UNAVAILABLE) {
+                // Only notify if the claim can't happen yet (don't spam for already claimed)
                 actionBar.showTimed(p, result.getMessage(), 40);
             }
         }
@@ -374,5 +391,11 @@ public class ActivationListener implements Listener {
         actionBar.cleanup(p);
         work.stopLoop(p);
         states.reset(p);
+        if (tabMenu != null) {
+            tabMenu.onPlayerQuit(p);
+        }
+        if (chunkLoader != null) {
+            chunkLoader.updatePresence(p.getUniqueId(), false);
+        }
     }
 }
@@ -0,0 +1,70 @@
+package org.cryptofyre.essentialUtils.listener;
+
+import org.cryptofyre.essentialUtils.features.farm.CropIndex;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockGrowEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
+import org.bukkit.event.player.PlayerHarvestBlockEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+/**
+ * Keeps the AutoFarm crop index in sync with block changes and crop growth.
+ * Runs at MONITOR so only changes that actually happened are recorded.
+ */
+public class CropIndexListener implements Listener {
+    private final CropIndex index;
+
+    public CropIndexListener(CropIndex index) {
+        this.index = index;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBreak(BlockBreakEvent e) {
+        index.clear(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlace(BlockPlaceEvent e) {
+        index.update(e.getBlockPlaced(), e.getBlockPlaced().getBlockData());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onGrow(BlockGrowEvent e) {
+        // Random-tick and bone meal growth; also melons/pumpkins appearing next to their stems
+        index.update(e.getBlock(), e.getNewState().getBlockData());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityChange(EntityChangeBlockEvent e) {
+        // Villagers planting/harvesting, trampling, etc.
+        index.update(e.getBlock(), e.getBlockData());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onHarvest(PlayerHarvestBlockEvent e) {
+        // Right-click harvesting (sweet berries) resets the crop in place
+        index.markHarvested(e.getHarvestedBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkLoad(ChunkLoadEvent e) {
+        // Anything cached for this chunk predates the unload; rebuild from fresh state
+        index.invalidateChunk(e.getWorld(), e.getChunk().getX(), e.getChunk().getZ());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onChunkUnload(ChunkUnloadEvent e) {
+        index.invalidateChunk(e.getWorld(), e.getChunk().getX(), e.getChunk().getZ());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldUnload(WorldUnloadEvent e) {
+        index.clearWorld(e.getWorld());
+    }
+}
@@ -0,0 +1,205 @@
+package org.cryptofyre.essentialUtils.metrics;
+
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.cryptofyre.essentialUtils.EssentialUtils;
+import org.bukkit.Location;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Samples server-wide metrics once per interval into an immutable Snapshot.
+ *
+ * The tab menu, /eutils status and the chunk loader's cost budget all read the
+ * latest snapshot instead of querying the server themselves, so the cost is paid
+ * once per interval however many readers there are. Values the server doesn't
+ * expose (e.g. global TPS and tick times on Folia) are NaN.
+ *
+ * On Folia each region ticks on its own, so the global TPS says nothing about a
+ * lagging region. Region TPS is read on the region's own thread by whoever is
+ * already running there (the tab menu's per-player tasks) and reported here;
+ * each sample picks out the worst region seen.
+ */
+public class ServerMetricsSampler {
+    // A region at or above this TPS is keeping up, so its MSPT can't be told from TPS
+    public static final double FULL_SPEED_TPS = 19.5;
+
+    private final EssentialUtils plugin;
+
+    private volatile Snapshot latest;
+    
+    // Latest region TPS reported per player (Folia)
+    private final Map<UUID, RegionTps> regions = new ConcurrentHashMap<>();
+    private ScheduledTask task;
+
+    // Global region thread only
+    private long lastGcTimeMs = -1;
+    private long lastGcCount = -1;
+
+    public ServerMetricsSampler(EssentialUtils plugin) {
+        this.plugin = plugin;
+        this.latest = sample();
+    }
+
+    /**
+     * Start sampling every intervalTicks.
+     */
+    public void start(int intervalTicks) {
+        long interval = Math.max(1, intervalTicks);
+        task = plugin.getServer().getGlobalRegionScheduler().runAtFixedRate(
+            plugin,
+            t -> latest = sample(),
+            interval,
+            interval
+        );
+    }
+
+    public void shutdown() {
+        if (task != null) {
+            task.cancel();
+        }
+    }
+
+    /**
+     * Latest snapshot. Never null.
+     */
+    public Snapshot latest() {
+        return latest;
+    }
+    
+    /**
+     * TPS of the region a location is in, or NaN if unknown. Must be called on
+     * that region's thread. Uses the 5 second average so hotspots show quickly.
+     */
+    public double regionTps(Location location) {
+        try {
+            double[] tps = plugin.getServer().getRegionTPS(location);
+            return tps != null && tps.length > 0 ? Math.min(20.0, tps[0]) : Double.NaN;
+        } catch (UnsupportedOperationException e) {
+            return Double.NaN;
+        }
+    }
+    
+    /**
+     * Record the region TPS a player was last seen in. Any thread.
+     */
+    public void reportRegion(UUID player, Location location, double tps) {
+        if (Double.isNaN(tps)) {
+            regions.remove(player);
+            return;
+        }
+        regions.put(player, new RegionTps(location.getWorld().getName(),
+            location.getBlockX(), location.getBlockZ(), tps));
+    }
+    
+    /**
+     * Forget a player's region report (on quit).
+     */
+    public void forget(UUID player) {
+        regions.remove(player);
+    }
+
+    private Snapshot sample() {
+        double tps = Double.NaN;
+        try {
+            tps = Math.min(20.0, plugin.getServer().getTPS()[0]);
+        } catch (UnsupportedOperationException e) {
+            // No global TPS (Folia); see worstRegion
+        }
+
+        double msptAverage = Double.NaN;
+        double p50 = Double.NaN;
+        double p95 = Double.NaN;
+        double p99 = Double.NaN;
+        try {
+            msptAverage = plugin.getServer().getAverageTickTime();
+            long[] ticks = plugin.getServer().getTickTimes().clone();
+            if (ticks.length > 0) {
+                Arrays.sort(ticks);
+                p50 = percentileMs(ticks, 0.50);
+                p95 = percentileMs(ticks, 0.95);
+                p99 = percentileMs(ticks, 0.99);
+            }
+        } catch (UnsupportedOperationException e) {
+            // No global tick times (Folia)
+        }
+
+        Runtime runtime = Runtime.getRuntime();
+        long heapUsed = runtime.totalMemory() - runtime.freeMemory();
+
+        long gcTimeMs = 0;
+        long gcCount = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcTimeMs += Math.max(0, gc.getCollectionTime());
+            gcCount += Math.max(0, gc.getCollectionCount());
+        }
+        long gcPauseMs = lastGcTimeMs < 0 ? 0 : gcTimeMs - lastGcTimeMs;
+        long gcRuns = lastGcCount < 0 ? 0 : gcCount - lastGcCount;
+        lastGcTimeMs = gcTimeMs;
+        lastGcCount = gcCount;
+
+        RegionTps worst = null;
+        for (RegionTps region : regions.values()) {
+            if (worst == null || region.tps() < worst.tps()) worst = region;
+        }
+
+        return new Snapshot(
+            System.currentTimeMillis(),
+            tps, msptAverage, p50, p95, p99,
+            heapUsed, runtime.maxMemory(),
+            gcPauseMs, gcRuns,
+            plugin.getServer().getOnlinePlayers().size(), plugin.getServer().getMaxPlayers(),
+            worst
+        );
+    }
+
+    private static double percentileMs(long[] sortedNanos, double p) {
+        int index = (int) Math.min(sortedNanos.length - 1, Math.floor(p * sortedNanos.length));
+        return sortedNanos[index] / 1_000_000.0;
+    }
+
+    /**
+     * One sample. tps and the MSPT values are NaN where the server has no global
+     * tick (Folia). MSPT values are in milliseconds, heap in bytes; gcPauseMs and
+     * gcRuns cover the time since the previous sample. worstRegion is null unless
+     * region TPS has been reported.
+     */
+    public record Snapshot(long sampledAt,
+                           double tps,
+                           double msptAverage, double msptP50, double msptP95, double msptP99,
+                           long heapUsed, long heapMax,
+                           long gcPauseMs, long gcRuns,
+                           int players, int maxPlayers,
+                           RegionTps worstRegion) {
+
+        /**
+         * MSPT for load thresholds: the server's where it has one, else an estimate for
+         * the slowest reported region. A region behind schedule takes about 1000 / TPS
+         * ms per tick; one keeping up (FULL_SPEED_TPS or better) counts as 0. NaN if
+         * neither is known.
+         */
+        public double loadMspt() {
+            if (!Double.isNaN(msptAverage)) return msptAverage;
+            if (worstRegion == null) return Double.NaN;
+            return worstRegion.tps() < FULL_SPEED_TPS ? 1000 / Math.max(1.0, worstRegion.tps()) : 0;
+        }
+
+        public long heapUsedMB() {
+            return heapUsed / (1024 * 1024);
+        }
+
+        public long heapMaxMB() {
+            return heapMax / (1024 * 1024);
+        }
+    }
+
+    /**
+     * A region's TPS, located by a block position inside it.
+     */
+    public record RegionTps(String worldName, int x, int z, double tps) {
+    }
+}
@@ -1,6 +1,7 @@
 package org.cryptofyre.essentialUtils.state;
 
 import org.cryptofyre.essentialUtils.util.LeafDropUtil;
+import org.cryptofyre.essentialUtils.work.FarmHarvestResult;
 import org.cryptofyre.essentialUtils.work.VeinMineResult;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -25,6 +26,9 @@ public class StateManager {
     private final Map<UUID, LeafDropUtil.TreeFellerResult> treeFellerResults = new ConcurrentHashMap<>();
     private final Map<UUID, Material> treeFellerLogTypes = new ConcurrentHashMap<>();
     private final Map<UUID, Location> treeFellerStumpLocations = new ConcurrentHashMap<>();
+    
+    // AutoFarm column harvest tracking per player
+    private final Map<UUID, FarmHarvestResult> farmHarvestResults = new ConcurrentHashMap<>();
 
     // ==================== STATE MANAGEMENT ====================
 
@@ -117,6 +121,31 @@ public class StateManager {
         return treeFellerResults.remove(p.getUniqueId());
     }
 
+    // ==================== AUTOFARM RESULTS ====================
+
+    /**
+     * Start tracking a new AutoFarm column harvest session.
+     */
+    public FarmHarvestResult startFarmHarvest(Player p, Location origin) {
+        FarmHarvestResult result = new FarmHarvestResult(origin);
+        farmHarvestResults.put(p.getUniqueId(), result);
+        return result;
+    }
+
+    /**
+     * Get current AutoFarm result (or null if none).
+     */
+    public FarmHarvestResult getFarmHarvestResult(Player p) {
+        return farmHarvestResults.get(p.getUniqueId());
+    }
+
+    /**
+     * End AutoFarm session and return results.
+     */
+    public FarmHarvestResult endFarmHarvest(Player p) {
+        return farmHarvestResults.remove(p.getUniqueId());
+    }
+
     // ==================== CLEANUP ====================
 
     /**
@@ -129,6 +158,7 @@ public class StateManager {
         treeFellerResults.remove(id);
         treeFellerLogTypes.remove(id);
         treeFellerStumpLocations.remove(id);
+        farmHarvestResults.remove(id);
     }
 
     /**
@@ -140,5 +170,6 @@ public class StateManager {
         treeFellerResults.clear();
         treeFellerLogTypes.clear();
         treeFellerStumpLocations.clear();
+        farmHarvestResults.clear();
     }
 }
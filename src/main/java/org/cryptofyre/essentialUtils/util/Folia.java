@@ -0,0 +1,23 @@
+package org.cryptofyre.essentialUtils.util;
+
+public final class Folia {
+    private Folia(){}
+
+    private static final boolean FOLIA = detect();
+
+    /**
+     * True when running on Folia (regionised ticking), false on Paper.
+     */
+    public static boolean isFolia() {
+        return FOLIA;
+    }
+
+    private static boolean detect() {
+        try {
+            Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
@@ -1,8 +1,16 @@
 package org.cryptofyre.essentialUtils.util;
 
 import org.bukkit.Material;
+import org.bukkit.block.Block;
+import org.bukkit.block.data.Ageable;
+import org.bukkit.entity.Entity;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
 public final class HarvestUtil {
     private HarvestUtil(){}
 
@@ -44,4 +52,45 @@ public final class HarvestUtil {
             default -> "Unknown";
         };
     }
+
+    /**
+     * Harvest a mature crop in place: collect its drops minus one seed for the replant,
+     * then set the crop back to age 0 as a single block change (no break, no re-place).
+     * Returns the drops for the caller to hand out, or null if the block isn't ageable.
+     */
+    public static List<ItemStack> harvestAndReset(Block crop, Material seed, ItemStack tool, Entity breaker) {
+        if (!(crop.getBlockData() instanceof Ageable ageable)) return null;
+        return reset(crop, ageable, seed, crop.getDrops(tool, breaker));
+    }
+
+    /**
+     * Same as above with nobody breaking the crop (no tool, no entity), e.g. a harvester.
+     */
+    public static List<ItemStack> harvestAndReset(Block crop, Material seed) {
+        if (!(crop.getBlockData() instanceof Ageable ageable)) return null;
+        return reset(crop, ageable, seed, crop.getDrops());
+    }
+
+    private static List<ItemStack> reset(Block crop, Ageable ageable, Material seed, Collection<ItemStack> rawDrops) {
+        List<ItemStack> drops = new ArrayList<>(rawDrops);
+
+        // The reset crop "uses" one seed, same as replanting by hand
+        if (seed != null) {
+            Iterator<ItemStack> it = drops.iterator();
+            while (it.hasNext()) {
+                ItemStack drop = it.next();
+                if (drop.getType() != seed) continue;
+                if (drop.getAmount() > 1) {
+                    drop.setAmount(drop.getAmount() - 1);
+                } else {
+                    it.remove();
+                }
+                break;
+            }
+        }
+
+        ageable.setAge(0);
+        crop.setBlockData(ageable, false);
+        return drops;
+    }
 }
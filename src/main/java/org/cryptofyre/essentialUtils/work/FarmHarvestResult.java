@@ -0,0 +1,82 @@
+package org.cryptofyre.essentialUtils.work;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Accumulates drops from an AutoFarm column harvest session.
+ * Drops are merged per material and spawned once at the origin when the session ends,
+ * instead of one item entity per broken block.
+ */
+public class FarmHarvestResult {
+    private final Location originLocation;
+    private final Map<Material, Integer> dropCounts = new EnumMap<>(Material.class);
+    private int columns = 0;
+    private int blocks = 0;
+
+    public FarmHarvestResult(Location origin) {
+        this.originLocation = origin;
+    }
+
+    /**
+     * Record a harvested column.
+     */
+    public void addColumn(int height) {
+        columns++;
+        blocks += height;
+    }
+
+    /**
+     * Record drops from a harvested block.
+     */
+    public void addDrops(Collection<ItemStack> drops) {
+        for (ItemStack drop : drops) {
+            dropCounts.merge(drop.getType(), drop.getAmount(), Integer::sum);
+        }
+    }
+
+    // Getters
+
+    public Location getOriginLocation() {
+        return originLocation;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getBlocks() {
+        return blocks;
+    }
+
+    /**
+     * Check if this result has any meaningful data.
+     */
+    public boolean hasData() {
+        return !dropCounts.isEmpty();
+    }
+
+    /**
+     * Convert accumulated drops to full stacks.
+     */
+    public List<ItemStack> toItemStacks() {
+        List<ItemStack> stacks = new ArrayList<>();
+        for (Map.Entry<Material, Integer> entry : dropCounts.entrySet()) {
+            int remaining = entry.getValue();
+            int maxStack = Math.max(1, entry.getKey().getMaxStackSize());
+            while (remaining > 0) {
+                int amount = Math.min(remaining, maxStack);
+                stacks.add(new ItemStack(entry.getKey(), amount));
+                remaining -= amount;
+            }
+        }
+        return stacks;
+    }
+}
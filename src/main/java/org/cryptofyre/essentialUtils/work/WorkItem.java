@@ -6,7 +6,7 @@ import org.bukkit.entity.Player;
 
 /**
  * Represents a unit of work to be processed by the WorkService.
- * Supports various actions: breaking blocks, planting saplings, replanting crops.
+ * Supports various actions: breaking blocks (crops are replanted in place) and planting saplings.
  */
 public class WorkItem {
     
@@ -15,8 +15,8 @@ public class WorkItem {
         BREAK, 
         /** Plant a sapling/propagule */
         PLANT,
-        /** Replant a crop (seeds) */
-        REPLANT
+        /** Harvest everything above a column crop's base block */
+        HARVEST_COLUMN
     }
     
     public enum FeatureTag { 
@@ -31,7 +31,7 @@ public class WorkItem {
     public final Action action;
     public final FeatureTag tag;
 
-    // For PLANT/REPLANT actions
+    // For PLANT actions
     public final Material plantType;
     public int retries;
     public int cooldownTicks;
@@ -91,16 +91,16 @@ public class WorkItem {
     }
     
     /**
-     * Create a plant work item for a sapling.
+     * Create a column harvest work item (sugar cane, bamboo, etc.) from its base block.
      */
-    public static WorkItem plantSapling(Player player, Block block, Material sapling, int retries) {
-        return new WorkItem(player, block, Action.PLANT, sapling, retries, 5, FeatureTag.TREE, false);
+    public static WorkItem harvestColumn(Player player, Block base) {
+        return new WorkItem(player, base, Action.HARVEST_COLUMN, null, 0, 0, FeatureTag.FARM, false);
     }
     
     /**
-     * Create a replant work item for a crop.
+     * Create a plant work item for a sapling.
      */
-    public static WorkItem replantCrop(Player player, Block block, Material cropType) {
-        return new WorkItem(player, block, Action.REPLANT, cropType, 3, 0, FeatureTag.FARM, false);
+    public static WorkItem plantSapling(Player player, Block block, Material sapling, int retries) {
+        return new WorkItem(player, block, Action.PLANT, sapling, retries, 5, FeatureTag.TREE, false);
     }
 }
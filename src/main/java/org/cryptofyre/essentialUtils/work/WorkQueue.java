@@ -5,9 +5,19 @@ import java.util.Deque;
 
 public class WorkQueue {
     private final Deque<WorkItem> q = new ArrayDeque<>();
-    public void add(WorkItem wi) { q.addLast(wi); }
+    private int total = 0;
+    private int ticks = 0;
+    public void add(WorkItem wi) { q.addLast(wi); total++; }
+    /** Put an item back (cooldown, retry) without counting it as new work. */
+    public void requeue(WorkItem wi) { q.addLast(wi); }
     public WorkItem poll() { return q.pollFirst(); }
     public int size() { return q.size(); }
     public boolean isEmpty() { return q.isEmpty(); }
     public void clear() { q.clear(); }
+    /** Items added since the queue was created. */
+    public int total() { return total; }
+    /** Items that have left the queue for good. */
+    public int completed() { return total - q.size(); }
+    /** Count a processing tick, returning the new count. */
+    public int tick() { return ++ticks; }
 }
@@ -1,13 +1,17 @@
 package org.cryptofyre.essentialUtils.work;
 
 import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import net.kyori.adventure.text.Component;
 import org.cryptofyre.essentialUtils.EssentialUtils;
 import org.cryptofyre.essentialUtils.config.PluginConfig;
 import org.cryptofyre.essentialUtils.features.farm.AutoFarmFeature;
 import org.cryptofyre.essentialUtils.indicator.ActionBarService;
+import org.cryptofyre.essentialUtils.indicator.BossBarIndicator;
+import org.cryptofyre.essentialUtils.indicator.MessageTemplate;
 import org.cryptofyre.essentialUtils.state.PlayerState;
 import org.cryptofyre.essentialUtils.state.StateManager;
 import org.cryptofyre.essentialUtils.util.FortuneUtil;
+import org.cryptofyre.essentialUtils.util.HarvestUtil;
 import org.cryptofyre.essentialUtils.util.LeafDropUtil;
 import org.cryptofyre.essentialUtils.util.Protection;
 import org.bukkit.Effect;
@@ -15,11 +19,11 @@ import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Particle;
 import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
 import org.bukkit.entity.ExperienceOrb;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
-import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
@@ -29,21 +33,27 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * Folia-safe work processing service.
  * Handles block breaking, item drops, XP spawning, and replanting.
+ * Sessions of at least bossbar.minBlocks blocks show their progress in a boss bar.
  */
 public class WorkService {
     private final EssentialUtils plugin;
-    private final PluginConfig cfg;
     private final StateManager states;
     private final ActionBarService actionBar;
+    private final BossBarIndicator bossBar;
 
     private final Map<UUID, WorkQueue> queues = new ConcurrentHashMap<>();
     private final Map<UUID, ScheduledTask> loops = new ConcurrentHashMap<>();
 
-    public WorkService(EssentialUtils plugin, PluginConfig cfg, StateManager states, ActionBarService actionBar) {
+    public WorkService(EssentialUtils plugin, StateManager states, ActionBarService actionBar, BossBarIndicator bossBar) {
         this.plugin = plugin;
-        this.cfg = cfg;
         this.states = states;
         this.actionBar = actionBar;
+        this.bossBar = bossBar;
+    }
+
+    // Read on use so a config reload takes effect
+    private PluginConfig cfg() {
+        return plugin.cfg();
     }
 
     public WorkQueue queue(Player p) {
@@ -60,12 +70,18 @@ public class WorkService {
         ScheduledTask t = loops.remove(p.getUniqueId());
         if (t != null) t.cancel();
         queues.remove(p.getUniqueId());
+        if (p.isOnline()) {
+            bossBar.hide(p);
+        } else {
+            bossBar.forget(p.getUniqueId());
+        }
     }
 
     public void shutdown() {
         loops.values().forEach(ScheduledTask::cancel);
         loops.clear();
         queues.clear();
+        bossBar.hideAll();
     }
 
     private void tickPlayer(Player p) {
@@ -79,10 +95,13 @@ public class WorkService {
             if (states.get(p) == PlayerState.ACTIVE) {
                 // Processing complete - show summaries and cleanup
                 finishProcessing(p);
+            } else {
+                bossBar.hide(p);
             }
             return;
         }
 
+        PluginConfig cfg = cfg();
         final int budget = cfg.blocksPerTick();
         EnumMap<WorkItem.FeatureTag, Integer> used = new EnumMap<>(WorkItem.FeatureTag.class);
         for (WorkItem.FeatureTag t : WorkItem.FeatureTag.values()) {
@@ -99,7 +118,7 @@ public class WorkService {
             // Handle cooldown
             if (wi.cooldownTicks > 0) {
                 wi.cooldownTicks--;
-                q.add(wi);
+                q.requeue(wi);
                 continue;
             }
 
@@ -108,7 +127,7 @@ public class WorkService {
             // Chunk check
             if (cfg.requireChunkLoaded() && !b.getChunk().isLoaded()) {
                 wi.cooldownTicks = 5;
-                q.add(wi);
+                q.requeue(wi);
                 continue;
             }
             
@@ -121,12 +140,19 @@ public class WorkService {
             switch (wi.action) {
                 case BREAK -> handleBreak(wi);
                 case PLANT -> handlePlant(wi, q);
-                case REPLANT -> handleReplant(wi, q);
+                case HARVEST_COLUMN -> handleColumnHarvest(wi);
             }
 
             used.put(wi.tag, used.getOrDefault(wi.tag, 0) + 1);
             processed++;
         }
+
+        // Progress for large sessions, throttled; the bar itself skips unchanged percentages
+        if (cfg.bossBarEnabled() && q.total() >= cfg.bossBarMinBlocks()
+                && q.tick() % Math.max(1, cfg.bossBarUpdateInterval()) == 0) {
+            MessageTemplate title = actionBar.template(cfg.bossBarTitle(), "done", "total", "percent");
+            bossBar.showProgress(p, q.completed(), q.total(), cfg.bossBarColor(), title);
+        }
     }
 
     /**
@@ -199,7 +225,7 @@ public class WorkService {
         // Play break effect (sound + particles) before removing the block
         playBlockBreakEffect(b);
         
-        if (silkTouch && cfg.veinMinerSilkTouchDropsOre()) {
+        if (silkTouch && cfg().veinMinerSilkTouchDropsOre()) {
             // Silk Touch: drop the ore block itself
             b.setType(Material.AIR);
             b.getWorld().dropItemNaturally(b.getLocation().add(0.5, 0.5, 0.5), new ItemStack(oreType, 1));
@@ -212,7 +238,7 @@ public class WorkService {
         } else {
             // Fortune or normal: calculate drops
             Material dropType = FortuneUtil.getOreDrop(oreType);
-            int dropCount = cfg.veinMinerFortuneEnabled() 
+            int dropCount = cfg().veinMinerFortuneEnabled() 
                 ? FortuneUtil.calculateDropCount(oreType, fortuneLevel)
                 : 1;
             int xp = FortuneUtil.getOreXP(oreType);
@@ -237,21 +263,94 @@ public class WorkService {
 
     /**
      * Handle crop breaking with auto-replant.
+     * Replantable crops are harvested and reset to age 0 in place, so the
+     * harvest and the replant are one block change in the same tick.
      */
     private void handleFarmBreak(WorkItem wi) {
         Block b = wi.block;
         Player p = wi.player;
         Material cropType = b.getType();
-        
-        // Break naturally
         // Note: Hoes don't take damage when breaking crops in vanilla
         // (only when tilling soil), so we don't call damageToolSlightly here
-        b.breakNaturally(p.getInventory().getItemInMainHand(), true);
+        ItemStack tool = p.getInventory().getItemInMainHand();
+        
+        if (cfg().autoFarmReplant() && AutoFarmFeature.canReplant(cropType)) {
+            playBlockBreakEffect(b);
+            List<ItemStack> drops = HarvestUtil.harvestAndReset(b, AutoFarmFeature.getSeed(cropType), tool, p);
+            if (drops != null) {
+                Location dropLoc = b.getLocation().add(0.5, 0.5, 0.5);
+                for (ItemStack drop : drops) {
+                    b.getWorld().dropItemNaturally(dropLoc, drop);
+                }
+                // Plugin block changes don't fire events - keep the crop index in step ourselves
+                if (plugin.cropIndex() != null) {
+                    plugin.cropIndex().markHarvested(b);
+                }
+                return;
+            }
+        }
         
-        // Queue replant if enabled
-        if (cfg.autoFarmReplant() && AutoFarmFeature.canReplant(cropType)) {
-            WorkItem replant = WorkItem.replantCrop(p, b, cropType);
-            queue(p).add(replant);
+        // Not replanting - break naturally
+        b.breakNaturally(tool, true);
+        if (plugin.cropIndex() != null) {
+            plugin.cropIndex().clear(b);
+        }
+    }
+
+    /**
+     * Harvest a column crop (sugar cane, bamboo, cactus, kelp, twisting vines) in one pass.
+     * Walks up from the base once, then removes blocks top-down with physics off so the
+     * column doesn't cascade into one update per block. The base is left to regrow and
+     * drops go to the session accumulator.
+     */
+    private void handleColumnHarvest(WorkItem wi) {
+        Block base = wi.block;
+        Player p = wi.player;
+        Material family = AutoFarmFeature.columnFamily(base.getType());
+        if (family == null) return;
+        
+        Block top = AutoFarmFeature.columnTop(base);
+        if (top.getY() <= base.getY()) return;
+        
+        // Cut from the top down, stopping above the first block the player can't modify;
+        // that block and everything under it stay, so nothing is left floating
+        Block bottom = null;
+        for (Block b = top; b.getY() > base.getY() && Protection.canModify(p, b); b = b.getRelative(BlockFace.DOWN)) {
+            bottom = b;
+        }
+        if (bottom == null) return;
+        int height = top.getY() - bottom.getY() + 1;
+        
+        ItemStack tool = p.getInventory().getItemInMainHand();
+        FarmHarvestResult result = states.getFarmHarvestResult(p);
+        // Kelp lives in water - leave water behind instead of air pockets
+        Material replacement = family == Material.KELP ? Material.WATER : Material.AIR;
+        
+        playBlockBreakEffect(bottom);
+        
+        for (Block b = top; b.getY() >= bottom.getY(); b = b.getRelative(BlockFace.DOWN)) {
+            if (result != null) {
+                result.addDrops(b.getDrops(tool, p));
+            } else {
+                b.breakNaturally(tool, false);
+            }
+            b.setType(replacement, false);
+            if (plugin.cropIndex() != null) {
+                plugin.cropIndex().clear(b);
+            }
+        }
+        
+        // With physics off the base keeps its "body" form; give it back its growing tip.
+        // Not when a protected block is left on top - that one isn't ours to change
+        boolean cutToBase = bottom.getY() == base.getY() + 1;
+        if (cutToBase && base.getType() == Material.KELP_PLANT) {
+            base.setType(Material.KELP, false);
+        } else if (cutToBase && base.getType() == Material.TWISTING_VINES_PLANT) {
+            base.setType(Material.TWISTING_VINES, false);
+        }
+        
+        if (result != null) {
+            result.addColumn(height);
         }
     }
 
@@ -267,7 +366,7 @@ public class WorkService {
                     airPos.setType(wi.plantType, true);
                 
                 // Spawn green sparkle particles
-                if (cfg.treeFellerParticles()) {
+                if (cfg().treeFellerParticles()) {
                     Location loc = airPos.getLocation().add(0.5, 0.5, 0.5);
                     airPos.getWorld().spawnParticle(Particle.HAPPY_VILLAGER, loc, 10, 0.3, 0.3, 0.3, 0);
                 }
@@ -279,31 +378,7 @@ public class WorkService {
         if (wi.retries > 0) {
             wi.retries--;
             wi.cooldownTicks = 5;
-            q.add(wi);
-        }
-    }
-
-    /**
-     * Handle crop replanting.
-     */
-    private void handleReplant(WorkItem wi, WorkQueue q) {
-        Block pos = wi.block;
-        
-        if (pos.getType().isAir()) {
-            Block soil = pos.getRelative(0, -1, 0);
-            Material seedCrop = AutoFarmFeature.getCropBlock(AutoFarmFeature.getSeed(wi.plantType));
-            
-            if (seedCrop != null && isValidFarmSoil(soil.getType(), wi.plantType)) {
-                pos.setType(seedCrop, true);
-                return;
-            }
-        }
-        
-        // Retry if not planted
-        if (wi.retries > 0) {
-            wi.retries--;
-            wi.cooldownTicks = 2;
-            q.add(wi);
+            q.requeue(wi);
         }
     }
 
@@ -325,9 +400,8 @@ public class WorkService {
             }
             
             // Show actionbar summary
-            if (cfg.veinMinerShowSummary()) {
-                String msg = formatVeinMinerSummary(veinResult);
-                actionBar.showTimed(p, msg, cfg.veinMinerSummaryDuration());
+            if (cfg().veinMinerShowSummary()) {
+                actionBar.showTimed(p, formatVeinMinerSummary(veinResult), cfg().veinMinerSummaryDuration());
             }
         }
         
@@ -349,9 +423,20 @@ public class WorkService {
             }
             
             // Show summary
-            if (cfg.treeFellerShowSummary()) {
-                String msg = formatTreeFellerSummary(treeResult);
-                actionBar.showTimed(p, msg, cfg.veinMinerSummaryDuration());
+            if (cfg().treeFellerShowSummary()) {
+                actionBar.showTimed(p, formatTreeFellerSummary(treeResult), cfg().veinMinerSummaryDuration());
+            }
+        }
+        
+        // Handle AutoFarm column harvest completion - one merged drop at the origin
+        FarmHarvestResult farmResult = states.endFarmHarvest(p);
+        if (farmResult != null && farmResult.hasData()) {
+            Location loc = farmResult.getOriginLocation();
+            if (loc != null && loc.getWorld() != null) {
+                Location dropLoc = loc.clone().add(0.5, 0.5, 0.5);
+                for (ItemStack drop : farmResult.toItemStacks()) {
+                    loc.getWorld().dropItemNaturally(dropLoc, drop);
+                }
             }
         }
         
@@ -360,62 +445,31 @@ public class WorkService {
     }
 
     /**
-     * Format VeinMiner actionbar summary with nice separators.
+     * Render the VeinMiner actionbar summary from the configured format.
      */
-    private String formatVeinMinerSummary(VeinMineResult result) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("&b⛏ ");
-        
-        List<String> parts = new ArrayList<>();
-        
-        String oreName = FortuneUtil.getOreFriendlyName(result.getOreType());
-        String dropName = FortuneUtil.getDropFriendlyName(result.getPrimaryDrop());
-        
-        // Ore count
-        parts.add("&ex" + result.getBlocksMined() + " &f" + oreName);
-        
-        // Drops with multiplier
-        if (result.getTotalDrops() > 0) {
-            String mult = result.getMultiplierString();
-            parts.add("&f" + result.getTotalDrops() + " " + dropName + " &7(" + mult + ")");
-        }
-        
-        // XP
-        if (result.getTotalXP() > 0) {
-            parts.add("&a" + result.getTotalXP() + " XP");
-        }
-        
-        sb.append(String.join(" &8• ", parts));
-        
-        return sb.toString();
+    private Component formatVeinMinerSummary(VeinMineResult result) {
+        return actionBar.template(cfg().veinMinerSummaryFormat(),
+            "count", "ore", "drops", "drop", "mult", "xp").render(
+            result.getBlocksMined(),
+            FortuneUtil.getOreFriendlyName(result.getOreType()),
+            result.getTotalDrops(),
+            FortuneUtil.getDropFriendlyName(result.getPrimaryDrop()),
+            result.getMultiplierString(),
+            result.getTotalXP()
+        );
     }
 
     /**
-     * Format TreeFeller actionbar summary.
-     * Only shows non-zero entries with nice separators.
+     * Render the TreeFeller actionbar summary from the configured format.
      */
-    private String formatTreeFellerSummary(LeafDropUtil.TreeFellerResult result) {
-        StringBuilder sb = new StringBuilder();
-        sb.append("&a🌳 ");
-        
-        List<String> parts = new ArrayList<>();
-        
-        if (result.logs > 0) {
-            parts.add("&f" + result.logs + " &7logs");
-        }
-        if (result.saplings > 0) {
-            parts.add("&f" + result.saplings + " &7saplings");
-        }
-        if (result.apples > 0) {
-            parts.add("&f" + result.apples + " &7apples");
-        }
-        if (result.sticks > 0) {
-            parts.add("&f" + result.sticks + " &7sticks");
-        }
-        
-        sb.append(String.join(" &8• ", parts));
-        
-        return sb.toString();
+    private Component formatTreeFellerSummary(LeafDropUtil.TreeFellerResult result) {
+        return actionBar.template(cfg().treeFellerSummaryFormat(),
+            "logs", "saplings", "apples", "sticks").render(
+            result.logs,
+            result.saplings,
+            result.apples,
+            result.sticks
+        );
     }
 
     /**
@@ -431,16 +485,6 @@ public class WorkService {
                m == Material.MUDDY_MANGROVE_ROOTS;
     }
 
-    /**
-     * Check if material is valid soil for farming.
-     */
-    private boolean isValidFarmSoil(Material soil, Material crop) {
-        if (crop == Material.NETHER_WART) {
-            return soil == Material.SOUL_SAND || soil == Material.SOUL_SOIL;
-        }
-        return soil == Material.FARMLAND;
-    }
-
     /**
      * Play block break effect (sound and particles) for the given block.
      * This should be called before setType(Material.AIR) to get the correct effect.